@@ -0,0 +1,83 @@
+package com.prpa.trivia.benchmark;
+
+import com.prpa.trivia.TriviaApiApplication;
+import com.prpa.trivia.model.dto.CategoryDTO;
+import com.prpa.trivia.model.dto.QuestionDTO;
+import com.prpa.trivia.model.trivia.Difficulty;
+import com.prpa.trivia.model.trivia.Type;
+import com.prpa.trivia.service.QuestionService;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Application context on the embedded H2 database of the dev profile, seeded with {@value #QUESTIONS} questions
+ * spread over {@value #CATEGORIES} categories. Shared by every benchmark of a fork.
+ */
+@State(Scope.Benchmark)
+public class ApplicationState {
+
+    public static final int QUESTIONS = 5_000;
+    public static final int CATEGORIES = 25;
+
+    private static final int SEED_BATCH = 500;
+    private static final String[] WORDS = {"which", "planet", "painter", "river", "century", "element", "capital",
+            "composer", "battle", "mountain", "novel", "ocean", "empire", "language", "symphony", "island"};
+
+    ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(TriviaApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.hibernate=WARN",
+                        "--logging.level.org.springframework=WARN");
+
+        QuestionService questionService = bean(QuestionService.class);
+        Random random = new Random(42);
+        for (int first = 0; first < QUESTIONS; first += SEED_BATCH) {
+            List<QuestionDTO> batch = new ArrayList<>(SEED_BATCH);
+            for (int i = first; i < first + SEED_BATCH; i++) batch.add(question(random, i));
+            questionService.saveAll(batch, first);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    static QuestionDTO question(Random random, long number) {
+        StringBuilder statement = new StringBuilder("Question ").append(number);
+        for (int i = 0; i < 8 + random.nextInt(12); i++) statement.append(' ').append(WORDS[random.nextInt(WORDS.length)]);
+
+        List<CategoryDTO> categories = new ArrayList<>();
+        for (int i = 0; i < 1 + random.nextInt(3); i++) {
+            categories.add(new CategoryDTO("Category " + random.nextInt(CATEGORIES)));
+        }
+        return QuestionDTO.builder()
+                .statement(statement.append('?').toString())
+                .difficulty(Difficulty.values()[random.nextInt(Difficulty.values().length)])
+                .type(Type.MULTIPLE)
+                .alternatives(List.of("First " + number, "Second " + number, "Third " + number, "Fourth " + number))
+                .correctIndex(random.nextInt(4))
+                .category(categories)
+                .build();
+    }
+}
@@ -0,0 +1,37 @@
+package com.prpa.trivia.benchmark;
+
+import com.prpa.trivia.resources.OffsetPageRequest;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.concurrent.TimeUnit;
+
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class OffsetPageRequestBenchmark {
+
+    private static final Sort ID_ORDER = Sort.by("id");
+
+    private int offset = 40;
+    private int limit = 20;
+
+    @Benchmark
+    public Pageable of() {
+        return OffsetPageRequest.of(offset, limit);
+    }
+
+    @Benchmark
+    public Pageable ofSorted() {
+        return OffsetPageRequest.of(offset, limit, ID_ORDER);
+    }
+
+    @Benchmark
+    public Pageable next() {
+        return OffsetPageRequest.of(offset, limit, ID_ORDER).next();
+    }
+}
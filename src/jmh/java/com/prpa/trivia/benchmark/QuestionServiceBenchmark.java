@@ -0,0 +1,71 @@
+package com.prpa.trivia.benchmark;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.prpa.trivia.model.dto.CategoryDTO;
+import com.prpa.trivia.model.dto.QuestionView;
+import com.prpa.trivia.model.trivia.Category;
+import com.prpa.trivia.model.trivia.Question;
+import com.prpa.trivia.resources.QuestionController;
+import com.prpa.trivia.service.CategoryService;
+import com.prpa.trivia.service.QuestionService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.ResolvableType;
+
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class QuestionServiceBenchmark {
+
+    private static final AtomicLong SAVED = new AtomicLong(ApplicationState.QUESTIONS);
+
+    private QuestionService questionService;
+    private CategoryService categoryService;
+    private Cache<UUID, QuestionView> questionCache;
+    private List<CategoryDTO> categories;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setup(ApplicationState application) {
+        questionService = application.bean(QuestionService.class);
+        categoryService = application.bean(CategoryService.class);
+        questionCache = (Cache<UUID, QuestionView>) application.context
+                .getBeanProvider(ResolvableType.forClassWithGenerics(Cache.class, UUID.class, QuestionView.class))
+                .getObject();
+        categories = List.of(new CategoryDTO("Category 1"), new CategoryDTO("Category 7"), new CategoryDTO("Category 19"));
+    }
+
+    @Benchmark
+    public Question save() {
+        return questionService.save(ApplicationState.question(new Random(), SAVED.incrementAndGet()));
+    }
+
+    @Benchmark
+    public List<QuestionView> findAllPage() {
+        return questionService.findAll(randomOffset(), QuestionController.MAX_LIMIT);
+    }
+
+    @Benchmark
+    public List<QuestionView> findAllPageUncached() {
+        questionCache.invalidateAll();
+        return questionService.findAll(randomOffset(), QuestionController.MAX_LIMIT);
+    }
+
+    @Benchmark
+    public List<Category> findOrSaveAllExisting() {
+        return categoryService.findOrSaveAll(categories);
+    }
+
+    private int randomOffset() {
+        return ThreadLocalRandom.current().nextInt(ApplicationState.QUESTIONS - QuestionController.MAX_LIMIT);
+    }
+}
@@ -0,0 +1,37 @@
+package com.prpa.trivia.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prpa.trivia.model.dto.QuestionView;
+import com.prpa.trivia.resources.QuestionController;
+import com.prpa.trivia.service.QuestionService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes a full page of questions with the application object mapper, as the list endpoint does.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private List<QuestionView> page;
+
+    @Setup(Level.Trial)
+    public void setup(ApplicationState application) {
+        objectMapper = application.bean(ObjectMapper.class);
+        page = application.bean(QuestionService.class).findAll(0, QuestionController.MAX_LIMIT);
+    }
+
+    @Benchmark
+    public byte[] writeQuestionPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,121 @@
+package com.prpa.trivia.benchmark;
+
+import com.prpa.trivia.model.trivia.UuidV7Generator;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Compares the random v4 identifiers of {@code GenerationType.UUID} with {@link UuidV7Generator}: raw generation
+ * under contention and batched inserts into a table shaped like {@code Question} and {@code Question_Category}
+ * that already holds {@code preload} rows. Runs on an in-memory H2 database by default, point {@code url},
+ * {@code user} and {@code password} at a Postgres database (e.g. {@code -Djmh.args="UuidGeneratorBenchmark
+ * -p url=jdbc:postgresql://localhost:5432/trivia -p user=postgres -p password=postgres"}) to see the effect on
+ * its B-tree indexes.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UuidGeneratorBenchmark {
+
+    private static final int BATCH = 1_000;
+
+    @State(Scope.Benchmark)
+    public static class InsertState {
+
+        @Param({"random", "v7"})
+        String generator;
+
+        @Param("100000")
+        int preload;
+
+        @Param("jdbc:h2:mem:uuid_benchmark;DB_CLOSE_ON_EXIT=FALSE")
+        String url;
+
+        @Param("sa")
+        String user;
+
+        @Param("")
+        String password;
+
+        Connection connection;
+        PreparedStatement insertQuestion;
+        PreparedStatement insertCategory;
+        Supplier<UUID> ids;
+        long sequence;
+
+        @Setup(Level.Trial)
+        public void setup() throws SQLException {
+            ids = generator.equals("v7") ? UuidV7Generator::next : UUID::randomUUID;
+            connection = DriverManager.getConnection(url, user, password);
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("drop table if exists uuid_benchmark_question_category");
+                statement.execute("drop table if exists uuid_benchmark_question");
+                statement.execute("create table uuid_benchmark_question (id uuid primary key, statement varchar(255) not null)");
+                statement.execute("create table uuid_benchmark_question_category (question_id uuid not null, " +
+                        "category_id bigint not null, constraint uuid_benchmark_question_category_unique " +
+                        "unique (question_id, category_id))");
+            }
+            connection.commit();
+            insertQuestion = connection.prepareStatement(
+                    "insert into uuid_benchmark_question (id, statement) values (?, ?)");
+            insertCategory = connection.prepareStatement(
+                    "insert into uuid_benchmark_question_category (question_id, category_id) values (?, ?)");
+            for (int i = 0; i < preload; i += BATCH) insertBatch();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws SQLException {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("drop table uuid_benchmark_question_category");
+                statement.execute("drop table uuid_benchmark_question");
+            }
+            connection.commit();
+            connection.close();
+        }
+
+        int insertBatch() throws SQLException {
+            for (int i = 0; i < BATCH; i++) {
+                UUID id = ids.get();
+                insertQuestion.setObject(1, id);
+                insertQuestion.setString(2, "Question " + sequence++);
+                insertQuestion.addBatch();
+                insertCategory.setObject(1, id);
+                insertCategory.setLong(2, sequence % 25);
+                insertCategory.addBatch();
+            }
+            insertQuestion.executeBatch();
+            insertCategory.executeBatch();
+            connection.commit();
+            return BATCH;
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public UUID generateRandom() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public UUID generateTimeOrdered() {
+        return UuidV7Generator.next();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int insert(InsertState state) throws SQLException {
+        return state.insertBatch();
+    }
+}
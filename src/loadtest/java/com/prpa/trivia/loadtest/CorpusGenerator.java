@@ -0,0 +1,110 @@
+package com.prpa.trivia.loadtest;
+
+import com.prpa.trivia.model.dto.CategoryDTO;
+import com.prpa.trivia.model.dto.QuestionDTO;
+import com.prpa.trivia.model.dto.QuestionImportResult;
+import com.prpa.trivia.model.trivia.Difficulty;
+import com.prpa.trivia.model.trivia.Type;
+import com.prpa.trivia.service.QuestionService;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates a deterministic synthetic corpus of questions over the categories of {@code sql/data/category.csv} and
+ * saves it through {@link QuestionService#saveAll} from several threads, one batch per task.
+ */
+public class CorpusGenerator {
+
+    public static final int BATCH_SIZE = 1_000;
+
+    private static final String[] WORDS = {"which", "planet", "painter", "river", "century", "element", "capital",
+            "composer", "battle", "mountain", "novel", "ocean", "empire", "language", "symphony", "island", "film",
+            "album", "dynasty", "species", "theorem", "console", "stadium", "festival", "engine", "galaxy"};
+
+    private final List<String> categories;
+    private final long seed;
+
+    public CorpusGenerator(List<String> categories, long seed) {
+        this.categories = List.copyOf(categories);
+        this.seed = seed;
+    }
+
+    public static List<String> readCategories() throws IOException {
+        try (InputStream csv = CorpusGenerator.class.getResourceAsStream("/sql/data/category.csv")) {
+            if (csv == null) throw new IOException("sql/data/category.csv not found on the classpath.");
+            return Arrays.stream(new String(csv.readAllBytes(), StandardCharsets.UTF_8).split(","))
+                    .map(String::trim)
+                    .filter(name -> !name.isEmpty())
+                    .toList();
+        }
+    }
+
+    /**
+     * Saves {@code count} questions and returns the ids of the created ones.
+     */
+    public List<UUID> generate(QuestionService questionService, int count, int threads) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        AtomicInteger saved = new AtomicInteger();
+        try {
+            List<Future<List<UUID>>> batches = new ArrayList<>();
+            for (int first = 0; first < count; first += BATCH_SIZE) {
+                int from = first, to = Math.min(count, first + BATCH_SIZE);
+                batches.add(executor.submit(() -> {
+                    List<UUID> ids = new ArrayList<>(to - from);
+                    for (QuestionImportResult result : questionService.saveAll(batch(from, to), from)) {
+                        if (result.status() == QuestionImportResult.Status.CREATED) ids.add(result.id());
+                    }
+                    int total = saved.addAndGet(to - from);
+                    if (total % (BATCH_SIZE * 50) == 0 || total == count) {
+                        System.out.printf("Seeded %,d of %,d questions.%n", total, count);
+                    }
+                    return ids;
+                }));
+            }
+
+            List<UUID> created = new ArrayList<>(count);
+            for (Future<List<UUID>> batch : batches) created.addAll(batch.get());
+            return created;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    public QuestionDTO question(long number) {
+        return question(new Random(seed ^ number), "Question " + number);
+    }
+
+    public QuestionDTO question(Random random, String prefix) {
+        StringBuilder statement = new StringBuilder(prefix);
+        for (int i = 0; i < 8 + random.nextInt(16); i++) statement.append(' ').append(WORDS[random.nextInt(WORDS.length)]);
+
+        Set<CategoryDTO> questionCategories = new LinkedHashSet<>();
+        for (int i = 0; i < 1 + random.nextInt(3); i++) {
+            questionCategories.add(new CategoryDTO(categories.get(random.nextInt(categories.size()))));
+        }
+
+        boolean multiple = random.nextInt(4) != 0;
+        List<String> alternatives = multiple ?
+                List.of(prefix + " A", prefix + " B", prefix + " C", prefix + " D") :
+                List.of("True", "False");
+        return QuestionDTO.builder()
+                .statement(statement.append('?').toString())
+                .difficulty(Difficulty.values()[random.nextInt(Difficulty.values().length)])
+                .type(multiple ? Type.MULTIPLE : Type.BOOLEAN)
+                .alternatives(alternatives)
+                .correctIndex(random.nextInt(alternatives.size()))
+                .category(new ArrayList<>(questionCategories))
+                .build();
+    }
+
+    private List<QuestionDTO> batch(int from, int to) {
+        List<QuestionDTO> batch = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) batch.add(question(i));
+        return batch;
+    }
+}
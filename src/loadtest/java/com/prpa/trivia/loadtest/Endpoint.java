@@ -0,0 +1,97 @@
+package com.prpa.trivia.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Operations of the mixed workload, each one builds a request against {@code QuestionController} or
+ * {@code CategoryController} from the ids known to the run.
+ */
+public enum Endpoint {
+
+    GET_QUESTION("read") {
+        @Override
+        HttpRequest request(Target target) {
+            return get(target.uri("/api/v1/question/" + target.randomQuestionId()));
+        }
+    },
+    LIST_QUESTIONS("list") {
+        @Override
+        HttpRequest request(Target target) {
+            int offset = ThreadLocalRandom.current().nextInt(Math.max(1, target.questionCount() - PAGE_SIZE));
+            return get(target.uri("/api/v1/question?limit=" + PAGE_SIZE + "&offset=" + offset));
+        }
+    },
+    GET_CATEGORY("category") {
+        @Override
+        HttpRequest request(Target target) {
+            return get(target.uri("/api/v1/categories/" + target.randomCategoryId()));
+        }
+    },
+    LIST_CATEGORIES("categories") {
+        @Override
+        HttpRequest request(Target target) {
+            return get(target.uri("/api/v1/categories?limit=" + PAGE_SIZE + "&offset=0"));
+        }
+    },
+    CREATE_QUESTION("create") {
+        @Override
+        HttpRequest request(Target target) {
+            return HttpRequest.newBuilder(target.uri("/api/v1/question"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(target.newQuestionBody()))
+                    .build();
+        }
+    },
+    UPDATE_QUESTION("update") {
+        @Override
+        HttpRequest request(Target target) {
+            return HttpRequest.newBuilder(target.uri("/api/v1/question/" + target.randomQuestionId()))
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofByteArray(target.newQuestionBody()))
+                    .build();
+        }
+    };
+
+    public static final int PAGE_SIZE = 20;
+
+    private final String key;
+
+    Endpoint(String key) {
+        this.key = key;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public static Endpoint ofKey(String key) {
+        for (Endpoint endpoint : values()) {
+            if (endpoint.key.equals(key)) return endpoint;
+        }
+        throw new IllegalArgumentException("Unknown endpoint '" + key + "'.");
+    }
+
+    abstract HttpRequest request(Target target);
+
+    private static HttpRequest get(URI uri) {
+        return HttpRequest.newBuilder(uri).header("Accept", "application/json").GET().build();
+    }
+
+    /**
+     * What the requests need from the running application.
+     */
+    interface Target {
+
+        URI uri(String path);
+
+        String randomQuestionId();
+
+        int questionCount();
+
+        long randomCategoryId();
+
+        byte[] newQuestionBody();
+    }
+}
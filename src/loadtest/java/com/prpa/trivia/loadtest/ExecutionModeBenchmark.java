@@ -0,0 +1,148 @@
+package com.prpa.trivia.loadtest;
+
+import com.prpa.trivia.TriviaApiApplication;
+import com.prpa.trivia.model.dto.CategoryDTO;
+import com.prpa.trivia.service.CategoryService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.stream.IntStream;
+
+/**
+ * Starts the application once with platform request threads and once with virtual threads and drives both with the
+ * same closed-loop load: {@code clients} threads each sending the next request as soon as the previous one answers.
+ * Every request lists a page of categories, so each one blocks on a JPA query. Prints throughput and latency
+ * percentiles per mode.
+ * <p>
+ * Run with {@code mvn -Ploadtest test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.prpa.trivia.loadtest.ExecutionModeBenchmark}, the system properties {@code clients},
+ * {@code warmup} and {@code duration} (seconds) change the load. Virtual threads need a Java 21 runtime, on older ones the virtual run is skipped.
+ */
+public class ExecutionModeBenchmark {
+
+    private static final int CATEGORIES = 1_000;
+    private static final int PAGE_SIZE = 20;
+
+    public static void main(String[] args) throws Exception {
+        int clients = Integer.getInteger("clients", 400);
+        Duration warmup = Duration.ofSeconds(Integer.getInteger("warmup", 5));
+        Duration duration = Duration.ofSeconds(Integer.getInteger("duration", 20));
+
+        boolean[] modes = {false, true};
+        if (Runtime.version().feature() < 21) {
+            System.out.println("Running on Java " + Runtime.version().feature() + ", virtual threads are not available, "
+                    + "only the platform run is measured.");
+            modes = new boolean[]{false};
+        }
+        List<String> results = new ArrayList<>();
+        for (boolean virtual : modes) {
+            try (ConfigurableApplicationContext context = start(virtual)) {
+                seed(context.getBean(CategoryService.class));
+                int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+                run(port, clients, warmup);
+                results.add((virtual ? "virtual " : "platform") + " " + run(port, clients, duration));
+            }
+        }
+        System.out.printf("%nmode     clients=%d duration=%ss%n", clients, duration.toSeconds());
+        results.forEach(System.out::println);
+    }
+
+    private static ConfigurableApplicationContext start(boolean virtual) {
+        return new SpringApplicationBuilder(TriviaApiApplication.class)
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtual,
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN");
+    }
+
+    private static void seed(CategoryService categoryService) {
+        categoryService.findOrSaveAll(IntStream.range(0, CATEGORIES)
+                .mapToObj(i -> new CategoryDTO("Benchmark category " + i))
+                .toList());
+    }
+
+    private static Result run(int port, int clients, Duration duration) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newCachedThreadPool())
+                .build();
+        ExecutorService workers = Executors.newFixedThreadPool(clients);
+        long deadline = System.nanoTime() + duration.toNanos();
+        try {
+            List<Future<Samples>> futures = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                futures.add(workers.submit(() -> {
+                    Samples samples = new Samples();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        URI uri = URI.create("http://localhost:" + port + "/api/v1/categories?limit=" + PAGE_SIZE +
+                                "&offset=" + random.nextInt(CATEGORIES - PAGE_SIZE));
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(HttpRequest.newBuilder(uri).build(),
+                                    HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) samples.errors++;
+                        } catch (Exception e) {
+                            samples.errors++;
+                        }
+                        samples.add(System.nanoTime() - start);
+                    }
+                    return samples;
+                }));
+            }
+
+            Samples all = new Samples();
+            for (Future<Samples> future : futures) all.addAll(future.get());
+            return all.result(duration);
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private static class Samples {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        void add(long latency) {
+            if (count == latencies.length) latencies = Arrays.copyOf(latencies, count * 2);
+            latencies[count++] = latency;
+        }
+
+        void addAll(Samples other) {
+            for (int i = 0; i < other.count; i++) add(other.latencies[i]);
+            errors += other.errors;
+        }
+
+        Result result(Duration duration) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return new Result(count / (double) duration.toSeconds(), percentile(sorted, 0.50),
+                    percentile(sorted, 0.99), count == 0 ? 0 : sorted[count - 1], errors);
+        }
+
+        private static long percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) return 0;
+            return sorted[(int) Math.ceil(percentile * sorted.length) - 1];
+        }
+    }
+
+    private record Result(double throughput, long p50, long p99, long max, long errors) {
+
+        @Override
+        public String toString() {
+            return String.format("%10.1f req/s  p50=%7.2fms  p99=%7.2fms  max=%7.2fms  errors=%d",
+                    throughput, p50 / 1e6, p99 / 1e6, max / 1e6, errors);
+        }
+    }
+}
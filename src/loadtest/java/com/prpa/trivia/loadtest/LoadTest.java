@@ -0,0 +1,298 @@
+package com.prpa.trivia.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prpa.trivia.TriviaApiApplication;
+import com.prpa.trivia.model.dto.CategoryView;
+import com.prpa.trivia.service.CategoryService;
+import com.prpa.trivia.service.QuestionService;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Boots the application on a private in-memory H2 database, seeds it with a synthetic corpus and drives a mixed
+ * workload at a fixed arrival rate. Arrivals follow an open model: requests are sent asynchronously on schedule
+ * whether or not earlier ones answered, and latency is measured from the scheduled send time, so a slow server
+ * shows up as latency instead of as a lower request rate.
+ * <p>
+ * Options are {@code key=value} arguments:
+ * <ul>
+ *     <li>{@code questions}: size of the synthetic corpus, 100000 by default.</li>
+ *     <li>{@code rate}: requests per second, 500 by default.</li>
+ *     <li>{@code warmup} and {@code duration}: seconds of warm up and of measurement, 10 and 60 by default.</li>
+ *     <li>{@code mix}: weights per endpoint, by default {@value #DEFAULT_MIX}.</li>
+ *     <li>{@code max-in-flight}: requests waiting for an answer before new arrivals are dropped, 10000 by default.</li>
+ *     <li>{@code output}: directory for the HdrHistogram percentile files, target/loadtest by default.</li>
+ * </ul>
+ */
+public class LoadTest {
+
+    public static final String DEFAULT_MIX = "read=40,list=20,category=10,categories=10,create=10,update=10";
+
+    private static final long HIGHEST_LATENCY = TimeUnit.MINUTES.toNanos(1);
+    // Registered parties a Phaser supports.
+    private static final int MAX_IN_FLIGHT = 65_000;
+
+    private final Map<String, String> options;
+    private final Map<Endpoint, Stats> stats = new EnumMap<>(Endpoint.class);
+    private final AtomicLong created = new AtomicLong();
+
+    private int port;
+    private ObjectMapper objectMapper;
+    private CorpusGenerator corpus;
+    private UUID[] questionIds;
+    private long[] categoryIds;
+
+    public LoadTest(Map<String, String> options) {
+        this.options = options;
+        for (Endpoint endpoint : Endpoint.values()) stats.put(endpoint, new Stats());
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] option = arg.split("=", 2);
+            if (option.length != 2) throw new IllegalArgumentException("Options must be key=value, found '" + arg + "'.");
+            options.put(option[0], option[1]);
+        }
+        new LoadTest(options).run();
+    }
+
+    public void run() throws Exception {
+        int questions = intOption("questions", 100_000);
+        int rate = intOption("rate", 500);
+        Duration warmup = Duration.ofSeconds(intOption("warmup", 10));
+        Duration duration = Duration.ofSeconds(intOption("duration", 60));
+        int maxInFlight = Math.min(intOption("max-in-flight", 10_000), MAX_IN_FLIGHT);
+        Path output = Path.of(options.getOrDefault("output", "target/loadtest"));
+        Mix mix = Mix.parse(options.getOrDefault("mix", DEFAULT_MIX));
+
+        try (ConfigurableApplicationContext context = start()) {
+            port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+            objectMapper = context.getBean(ObjectMapper.class);
+            corpus = new CorpusGenerator(CorpusGenerator.readCategories(), intOption("seed", 42));
+
+            long seeding = System.nanoTime();
+            questionIds = corpus.generate(context.getBean(QuestionService.class), questions,
+                    Runtime.getRuntime().availableProcessors()).toArray(UUID[]::new);
+            categoryIds = context.getBean(CategoryService.class).findAll(0, 1_000).stream()
+                    .mapToLong(CategoryView::id)
+                    .toArray();
+            System.out.printf("Seeded %,d questions in %,d categories in %ds.%n", questionIds.length, categoryIds.length,
+                    TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - seeding));
+
+            ExecutorService callbacks = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(callbacks)
+                    .build();
+            try {
+                System.out.printf("Warming up for %ds at %d req/s.%n", warmup.toSeconds(), rate);
+                drive(client, mix, rate, warmup, maxInFlight);
+                stats.values().forEach(Stats::reset);
+
+                System.out.printf("Measuring for %ds at %d req/s.%n", duration.toSeconds(), rate);
+                drive(client, mix, rate, duration, maxInFlight);
+            } finally {
+                callbacks.shutdownNow();
+            }
+            report(duration, output);
+        }
+    }
+
+    private ConfigurableApplicationContext start() {
+        // Devtools would restart the application in a new class loader, running main again with the Spring arguments.
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        return new SpringApplicationBuilder(TriviaApiApplication.class)
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.hibernate=WARN",
+                        "--logging.level.org.springframework=WARN");
+    }
+
+    /**
+     * Sends one request every {@code 1 / rate} seconds until {@code duration} passes, then waits for the requests in
+     * flight to answer.
+     */
+    private void drive(HttpClient client, Mix mix, int rate, Duration duration, int maxInFlight) throws InterruptedException {
+        Endpoint.Target target = new HttpTarget();
+        Phaser inFlight = new Phaser(1);
+        long interval = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+
+        for (long scheduled = start; scheduled < end; scheduled += interval) {
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) LockSupport.parkNanos(wait);
+
+            Endpoint endpoint = mix.next();
+            Stats endpointStats = stats.get(endpoint);
+            if (inFlight.getUnarrivedParties() > maxInFlight) {
+                endpointStats.dropped.increment();
+                continue;
+            }
+
+            long sent = scheduled;
+            inFlight.register();
+            client.sendAsync(endpoint.request(target), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        endpointStats.record(System.nanoTime() - sent, error == null ? response.statusCode() : -1);
+                        inFlight.arriveAndDeregister();
+                    });
+        }
+
+        try {
+            inFlight.awaitAdvanceInterruptibly(inFlight.arrive(), 1, TimeUnit.MINUTES);
+        } catch (TimeoutException e) {
+            System.out.println("Some requests did not answer within a minute after the run.");
+        }
+    }
+
+    private void report(Duration duration, Path output) throws IOException {
+        Files.createDirectories(output);
+        System.out.printf("%n%-16s %9s %9s %8s %8s %10s %10s %10s %10s %10s%n", "endpoint", "count", "req/s",
+                "errors", "dropped", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+
+        Histogram total = new Histogram(HIGHEST_LATENCY, 3);
+        for (Map.Entry<Endpoint, Stats> entry : stats.entrySet()) {
+            Stats endpointStats = entry.getValue();
+            Histogram histogram = endpointStats.latencies.copy();
+            if (histogram.getTotalCount() == 0 && endpointStats.dropped.sum() == 0) continue;
+            total.add(histogram);
+            print(entry.getKey().name(), histogram, duration, endpointStats.errors(), endpointStats.dropped.sum());
+            write(output.resolve(entry.getKey().key() + ".hgrm"), histogram);
+            if (!endpointStats.statuses.isEmpty()) System.out.println("                 statuses " + endpointStats.statuses);
+        }
+        long errors = stats.values().stream().mapToLong(Stats::errors).sum();
+        long dropped = stats.values().stream().mapToLong(stats -> stats.dropped.sum()).sum();
+        print("TOTAL", total, duration, errors, dropped);
+        write(output.resolve("total.hgrm"), total);
+        System.out.println("Percentile distributions written to " + output.toAbsolutePath() + ".");
+    }
+
+    private static void print(String name, Histogram histogram, Duration duration, long errors, long dropped) {
+        System.out.printf("%-16s %9d %9.1f %8d %8d %10.2f %10.2f %10.2f %10.2f %10.2f%n", name,
+                histogram.getTotalCount(), histogram.getTotalCount() / (double) duration.toSeconds(), errors, dropped,
+                millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()));
+    }
+
+    private static void write(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(out, 1_000_000.0);
+        }
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    private int intOption(String key, int defaultValue) {
+        return options.containsKey(key) ? Integer.parseInt(options.get(key)) : defaultValue;
+    }
+
+    private class HttpTarget implements Endpoint.Target {
+
+        @Override
+        public URI uri(String path) {
+            return URI.create("http://localhost:" + port + path);
+        }
+
+        @Override
+        public String randomQuestionId() {
+            return questionIds[ThreadLocalRandom.current().nextInt(questionIds.length)].toString();
+        }
+
+        @Override
+        public int questionCount() {
+            return questionIds.length;
+        }
+
+        @Override
+        public long randomCategoryId() {
+            return categoryIds[ThreadLocalRandom.current().nextInt(categoryIds.length)];
+        }
+
+        @Override
+        public byte[] newQuestionBody() {
+            try {
+                return objectMapper.writeValueAsBytes(corpus.question(new Random(), "Load " + created.incrementAndGet()));
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static class Stats {
+
+        private final Histogram latencies = new ConcurrentHistogram(HIGHEST_LATENCY, 3);
+        private final ConcurrentMap<Integer, LongAdder> statuses = new ConcurrentSkipListMap<>();
+        private final LongAdder dropped = new LongAdder();
+
+        void record(long latency, int status) {
+            latencies.recordValue(Math.min(latency, HIGHEST_LATENCY));
+            statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+        }
+
+        long errors() {
+            return statuses.entrySet().stream()
+                    .filter(entry -> entry.getKey() < 200 || entry.getKey() >= 400)
+                    .mapToLong(entry -> entry.getValue().sum())
+                    .sum();
+        }
+
+        void reset() {
+            latencies.reset();
+            statuses.clear();
+            dropped.reset();
+        }
+    }
+
+    /**
+     * Weighted choice of the next endpoint.
+     */
+    private record Mix(Endpoint[] endpoints, int[] bounds) {
+
+        static Mix parse(String mix) {
+            List<Endpoint> endpoints = new ArrayList<>();
+            List<Integer> bounds = new ArrayList<>();
+            int total = 0;
+            for (String weight : mix.split(",")) {
+                String[] entry = weight.trim().split("=");
+                int value = Integer.parseInt(entry[1]);
+                if (value <= 0) continue;
+                total += value;
+                endpoints.add(Endpoint.ofKey(entry[0]));
+                bounds.add(total);
+            }
+            if (endpoints.isEmpty()) throw new IllegalArgumentException("The mix must have a positive weight.");
+            return new Mix(endpoints.toArray(Endpoint[]::new), bounds.stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        Endpoint next() {
+            int pick = ThreadLocalRandom.current().nextInt(bounds[bounds.length - 1]);
+            for (int i = 0; i < bounds.length; i++) {
+                if (pick < bounds[i]) return endpoints[i];
+            }
+            throw new IllegalStateException();
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package com.prpa.trivia.config;
 
-import com.prpa.trivia.model.trivia.Category;
-import com.prpa.trivia.repository.CategoryRepository;
+import com.prpa.trivia.service.CategoryService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -31,12 +30,10 @@ public class ApplicationConfig implements WebMvcConfigurer {
     @Bean
     @ConditionalOnResource(resources = "/sql/data/category.csv")
     @ConditionalOnProperty("application.data.fill.category")
-    public CommandLineRunner fillCategoryDB(@Autowired CategoryRepository categoryRepository) {
+    public CommandLineRunner fillCategoryDB(@Autowired CategoryService categoryService) {
         return (args -> {
             InputStream categoriesCSV = ApplicationConfig.class.getResourceAsStream("/sql/data/category.csv");
-            csvToList(categoriesCSV).stream()
-                    .map((name) -> new Category(null, name))
-                    .forEach(categoryRepository::save);
+            categoryService.resolveAll(csvToList(categoriesCSV));
         });
     }
 
@@ -50,8 +47,9 @@ public class ApplicationConfig implements WebMvcConfigurer {
         Scanner scanner = new Scanner(inputStream);
         scanner.useDelimiter(delimiter);
 
-        for (String item = scanner.next(); scanner.hasNext(); item = scanner.next()) {
-            itemList.add(item.trim());
+        while (scanner.hasNext()) {
+            String item = scanner.next().trim();
+            if (!item.isEmpty()) itemList.add(item);
         }
         scanner.close();
         return itemList;
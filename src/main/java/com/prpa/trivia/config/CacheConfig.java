@@ -0,0 +1,86 @@
+package com.prpa.trivia.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.prpa.trivia.model.dto.CategoryView;
+import com.prpa.trivia.model.dto.JsonFragment;
+import com.prpa.trivia.model.dto.QuestionView;
+import com.prpa.trivia.model.quiz.QuizSession;
+import com.prpa.trivia.model.trivia.Category;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.UUID;
+
+@Configuration
+public class CacheConfig {
+
+    public static final long CATEGORY_NAME_CACHE_SIZE = 10_000;
+    public static final long QUESTION_CACHE_MAX_BYTES = 64L * 1024 * 1024;
+    public static final long QUESTION_JSON_CACHE_MAX_BYTES = 32L * 1024 * 1024;
+    public static final long QUIZ_SESSION_MAX_COUNT = 1_000_000;
+    public static final Duration QUIZ_SESSION_TTL = Duration.ofMinutes(30);
+
+    @Bean
+    public Cache<String, Category> categoryNameCache() {
+        return Caffeine.newBuilder()
+                .maximumSize(CATEGORY_NAME_CACHE_SIZE)
+                .recordStats()
+                .build();
+    }
+
+    @Bean
+    public Cache<UUID, QuestionView> questionCache() {
+        return Caffeine.newBuilder()
+                .maximumWeight(QUESTION_CACHE_MAX_BYTES)
+                .weigher(CacheConfig::estimateBytes)
+                .recordStats()
+                .build();
+    }
+
+    @Bean
+    public Cache<UUID, JsonFragment> questionJsonCache() {
+        return Caffeine.newBuilder()
+                .maximumWeight(QUESTION_JSON_CACHE_MAX_BYTES)
+                .weigher(CacheConfig::estimateFragmentBytes)
+                .recordStats()
+                .build();
+    }
+
+    @Bean
+    public Cache<Long, JsonFragment> categoryJsonCache() {
+        return Caffeine.newBuilder()
+                .maximumSize(CATEGORY_NAME_CACHE_SIZE)
+                .recordStats()
+                .build();
+    }
+
+    @Bean
+    public Cache<UUID, QuizSession> quizSessionCache() {
+        return Caffeine.newBuilder()
+                .maximumSize(QUIZ_SESSION_MAX_COUNT)
+                .expireAfterAccess(QUIZ_SESSION_TTL)
+                .recordStats()
+                .build();
+    }
+
+    /** Fragments keep the view they were serialized from, which is usually but not always the cached one. */
+    private static int estimateFragmentBytes(UUID id, JsonFragment fragment) {
+        int bytes = 64 + fragment.json().length;
+        if (fragment.source() instanceof QuestionView question) bytes += estimateBytes(id, question);
+        return bytes;
+    }
+
+    private static int estimateBytes(UUID id, QuestionView question) {
+        int bytes = 256 + 2 * question.statement().length();
+        for (String alternative : question.alternatives()) {
+            bytes += 48 + 2 * alternative.length();
+        }
+        for (CategoryView category : question.category()) {
+            bytes += 64 + 2 * category.name().length();
+        }
+        return bytes;
+    }
+
+}
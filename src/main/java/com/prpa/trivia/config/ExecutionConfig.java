@@ -0,0 +1,46 @@
+package com.prpa.trivia.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Setting {@code spring.threads.virtual.enabled} on a Java 21 runtime makes Spring Boot run Tomcat requests,
+ * scheduled tasks and async executors on virtual threads, the blocking JPA calls then park the virtual thread
+ * instead of holding a platform thread. In that mode the data source is wrapped in an
+ * {@link AdmissionControlDataSource}, by default admitting as many callers as the pool has connections. On older
+ * runtimes the property is ignored, requests stay on platform threads and the data source is left unwrapped.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class ExecutionConfig {
+
+    // Hikari default, the configured size reads as -1 until the pool is validated on its first connection.
+    public static final int DEFAULT_POOL_SIZE = 10;
+
+    @Bean
+    public static BeanPostProcessor admissionControlDataSourcePostProcessor(
+            @Value("${application.datasource.admission.permits:0}") int permits,
+            @Value("${application.datasource.admission.timeout:PT30S}") Duration timeout) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof AdmissionControlDataSource) return bean;
+                return new AdmissionControlDataSource(dataSource, permits > 0 ? permits : poolSizeOf(dataSource), timeout);
+            }
+        };
+    }
+
+    private static int poolSizeOf(DataSource dataSource) {
+        int poolSize = dataSource instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : -1;
+        return poolSize > 0 ? poolSize : DEFAULT_POOL_SIZE;
+    }
+}
@@ -0,0 +1,30 @@
+package com.prpa.trivia.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * The Caffeine caches are plain beans instead of Spring caches, so they are not bound by the cache metrics
+     * auto configuration. All of them record statistics.
+     */
+    @Bean
+    public MeterBinder caffeineCacheMetrics(Map<String, Cache<?, ?>> caches) {
+        return registry -> caches.forEach((name, cache) -> CaffeineCacheMetrics.monitor(registry, cache, name));
+    }
+
+    /**
+     * Hibernate instantiates the session listener itself, the binder hands it the registry Spring Boot configured.
+     */
+    @Bean
+    public MeterBinder sqlSessionMetrics() {
+        return SqlMetricsSessionListener::bindTo;
+    }
+}
@@ -0,0 +1,24 @@
+package com.prpa.trivia.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@EnableConfigurationProperties(QueryBudgetProperties.class)
+public class QueryBudgetConfig implements WebMvcConfigurer {
+
+    private final QueryBudgetProperties queryBudgetProperties;
+
+    @Autowired
+    public QueryBudgetConfig(QueryBudgetProperties queryBudgetProperties) {
+        this.queryBudgetProperties = queryBudgetProperties;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new QueryBudgetInterceptor(queryBudgetProperties));
+    }
+}
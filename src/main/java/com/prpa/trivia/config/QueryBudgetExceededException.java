@@ -0,0 +1,8 @@
+package com.prpa.trivia.config;
+
+public class QueryBudgetExceededException extends RuntimeException {
+
+    public QueryBudgetExceededException(String name, int count, int budget) {
+        super("%s issued %d SQL statements, the budget is %d.".formatted(name, count, budget));
+    }
+}
@@ -0,0 +1,16 @@
+package com.prpa.trivia.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Registered through {@code hibernate.session_factory.statement_inspector}, feeds every prepared statement to the
+ * {@link QueryCounter} scopes of the current thread and leaves the SQL unchanged.
+ */
+public class QueryBudgetInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCounter.count(sql);
+        return sql;
+    }
+}
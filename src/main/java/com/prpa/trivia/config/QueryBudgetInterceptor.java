@@ -0,0 +1,58 @@
+package com.prpa.trivia.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Counts the SQL statements of each request handled by a controller method. In {@code LOG} mode a request over
+ * the budget of its endpoint is logged when it completes, in {@code FAIL} mode the statement exceeding the budget
+ * throws, failing the request. An async handler gets one scope per dispatch, the first one closes as soon as the
+ * concurrent handling starts, since {@code afterCompletion} only runs after the last dispatch.
+ */
+@Slf4j
+public class QueryBudgetInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String SCOPE_ATTRIBUTE = QueryBudgetInterceptor.class.getName() + ".scope";
+
+    private final QueryBudgetProperties properties;
+
+    public QueryBudgetInterceptor(QueryBudgetProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (properties.mode() == QueryBudgetProperties.Mode.OFF || !(handler instanceof HandlerMethod)) return true;
+
+        String endpoint = request.getMethod() + " " + request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        int budget = properties.budgetOf(endpoint);
+        request.setAttribute(SCOPE_ATTRIBUTE, QueryCounter.open(endpoint,
+                properties.mode() == QueryBudgetProperties.Mode.FAIL ? budget : -1, false));
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        close(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        close(request);
+    }
+
+    private void close(HttpServletRequest request) {
+        if (!(request.getAttribute(SCOPE_ATTRIBUTE) instanceof QueryCounter.Scope scope)) return;
+        request.removeAttribute(SCOPE_ATTRIBUTE);
+        scope.close();
+
+        int budget = properties.budgetOf(scope.name());
+        if (scope.count() > budget) {
+            log.warn("{} issued {} SQL statements, the budget is {}.", scope.name(), scope.count(), budget);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.prpa.trivia.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * SQL statement budgets per endpoint, keyed by HTTP method and handler pattern, e.g.
+ * {@code "[PUT /api/v1/question/{id}]": 6}. Endpoints without an entry get {@code defaultBudget}.
+ */
+@ConfigurationProperties("application.query-budget")
+public record QueryBudgetProperties(@DefaultValue("LOG") Mode mode,
+                                    @DefaultValue("10") int defaultBudget,
+                                    Map<String, Integer> endpoints) {
+
+    public enum Mode {
+        OFF,
+        LOG,
+        FAIL
+    }
+
+    public QueryBudgetProperties {
+        endpoints = endpoints == null ? Map.of() : Map.copyOf(endpoints);
+    }
+
+    public int budgetOf(String endpoint) {
+        return endpoints.getOrDefault(endpoint, defaultBudget);
+    }
+}
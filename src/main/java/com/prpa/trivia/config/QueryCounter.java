@@ -0,0 +1,76 @@
+package com.prpa.trivia.config;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread. Scopes nest, so a test can count a whole
+ * MockMvc call while the request interceptor counts the request inside it, every open scope sees every statement.
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<Deque<Scope>> SCOPES = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private QueryCounter() {
+    }
+
+    /**
+     * Opens a scope that fails the statement exceeding {@code budget} with a {@link QueryBudgetExceededException},
+     * a negative budget only counts.
+     */
+    public static Scope open(String name, int budget, boolean recordStatements) {
+        Scope scope = new Scope(name, budget, recordStatements);
+        SCOPES.get().push(scope);
+        return scope;
+    }
+
+    static void count(String sql) {
+        Deque<Scope> scopes = SCOPES.get();
+        if (scopes.isEmpty()) {
+            SCOPES.remove();
+            return;
+        }
+        for (Scope scope : scopes) scope.count(sql);
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final String name;
+        private final int budget;
+        private final List<String> statements;
+        private int count;
+
+        private Scope(String name, int budget, boolean recordStatements) {
+            this.name = name;
+            this.budget = budget;
+            this.statements = recordStatements ? new ArrayList<>() : null;
+        }
+
+        private void count(String sql) {
+            count++;
+            if (statements != null) statements.add(sql);
+            if (budget >= 0 && count > budget) throw new QueryBudgetExceededException(name, count, budget);
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public int count() {
+            return count;
+        }
+
+        public List<String> statements() {
+            return statements == null ? List.of() : List.copyOf(statements);
+        }
+
+        @Override
+        public void close() {
+            Deque<Scope> scopes = SCOPES.get();
+            scopes.remove(this);
+            if (scopes.isEmpty()) SCOPES.remove();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.prpa.trivia.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.hibernate.SessionEventListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the JDBC statements of a Hibernate session and the time spent executing them and acquiring its connection.
+ * With open-in-view a request uses a single session, so when the session ends the totals are recorded per request,
+ * tagged with the handler uri template. Registered on every session through {@code hibernate.session.events.auto},
+ * which instantiates the class itself, so the Spring {@link MeterRegistry} is handed over through {@link #bindTo} by
+ * a meter binder. The meters of each method and uri are built once and reused by every later session.
+ */
+public class SqlMetricsSessionListener implements SessionEventListener {
+
+    public static final String STATEMENTS = "hibernate.request.statements";
+    public static final String STATEMENT_TIME = "hibernate.request.statement.time";
+    public static final String CONNECTION_ACQUIRE_TIME = "hibernate.request.connection.acquire";
+
+    private static final String NO_REQUEST = "none";
+    private static final String UNKNOWN = "UNKNOWN";
+
+    private static volatile MeterRegistry registry;
+    private static final ConcurrentMap<Endpoint, Meters> meters = new ConcurrentHashMap<>();
+
+    private int statements;
+    private long statementNanos;
+    private long statementStart;
+    private long acquireNanos;
+    private long acquireStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        statements++;
+        statementNanos += System.nanoTime() - statementStart;
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        statements++;
+        statementNanos += System.nanoTime() - statementStart;
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        acquireStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        acquireNanos += System.nanoTime() - acquireStart;
+    }
+
+    /**
+     * Publishes the meters to {@code meterRegistry}. Sessions that end before a registry is bound are not recorded.
+     */
+    public static void bindTo(MeterRegistry meterRegistry) {
+        meters.clear();
+        registry = meterRegistry;
+    }
+
+    @Override
+    public void end() {
+        MeterRegistry meterRegistry = registry;
+        if (meterRegistry == null) return;
+
+        Meters endpointMeters = meters.computeIfAbsent(endpoint(), endpoint -> Meters.register(meterRegistry, endpoint));
+        endpointMeters.statements.record(statements);
+        endpointMeters.statementTime.record(statementNanos, TimeUnit.NANOSECONDS);
+        endpointMeters.acquireTime.record(acquireNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static Endpoint endpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return new Endpoint(NO_REQUEST, NO_REQUEST);
+        }
+        Object pattern = servletAttributes.getRequest().getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return new Endpoint(servletAttributes.getRequest().getMethod(), pattern == null ? UNKNOWN : pattern.toString());
+    }
+
+    private record Endpoint(String method, String uri) {
+    }
+
+    private record Meters(DistributionSummary statements, Timer statementTime, Timer acquireTime) {
+
+        static Meters register(MeterRegistry registry, Endpoint endpoint) {
+            Tags tags = Tags.of("method", endpoint.method(), "uri", endpoint.uri());
+            return new Meters(
+                    DistributionSummary.builder(STATEMENTS)
+                            .description("JDBC statements executed by the Hibernate session of a request")
+                            .tags(tags)
+                            .register(registry),
+                    Timer.builder(STATEMENT_TIME)
+                            .description("Time spent executing the JDBC statements of a request")
+                            .tags(tags)
+                            .register(registry),
+                    Timer.builder(CONNECTION_ACQUIRE_TIME)
+                            .description("Time a request waited for its JDBC connection")
+                            .tags(tags)
+                            .register(registry));
+        }
+    }
+}
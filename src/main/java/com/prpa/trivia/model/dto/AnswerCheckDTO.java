@@ -0,0 +1,21 @@
+package com.prpa.trivia.model.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnswerCheckDTO {
+
+    public static final int MAX_ANSWERS = 10_000;
+
+    @NotEmpty(message = "error.answer.empty.answers.message")
+    @Size(max = MAX_ANSWERS, message = "error.answer.size.answers.message")
+    private List<AnswerDTO> answers;
+}
@@ -0,0 +1,24 @@
+package com.prpa.trivia.model.dto;
+
+import java.util.List;
+
+public record AnswerCheckReport(int correct, int incorrect, int unknown, List<Status> items) {
+
+    public enum Status {
+        CORRECT,
+        INCORRECT,
+        UNKNOWN
+    }
+
+    public static AnswerCheckReport of(Status[] items) {
+        int correct = 0, incorrect = 0, unknown = 0;
+        for (Status item : items) {
+            switch (item) {
+                case CORRECT -> correct++;
+                case INCORRECT -> incorrect++;
+                case UNKNOWN -> unknown++;
+            }
+        }
+        return new AnswerCheckReport(correct, incorrect, unknown, List.of(items));
+    }
+}
@@ -0,0 +1,17 @@
+package com.prpa.trivia.model.dto;
+
+import lombok.*;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnswerDTO {
+
+    private UUID questionId;
+
+    private Integer chosenIndex;
+}
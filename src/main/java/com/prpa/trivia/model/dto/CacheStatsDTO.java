@@ -0,0 +1,14 @@
+package com.prpa.trivia.model.dto;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+public record CacheStatsDTO(long size, long hitCount, long missCount, double hitRate,
+                            long evictionCount, long evictionWeight) {
+
+    public static CacheStatsDTO of(Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+        return new CacheStatsDTO(cache.estimatedSize(), stats.hitCount(), stats.missCount(), stats.hitRate(),
+                stats.evictionCount(), stats.evictionWeight());
+    }
+}
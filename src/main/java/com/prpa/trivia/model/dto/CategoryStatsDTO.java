@@ -0,0 +1,13 @@
+package com.prpa.trivia.model.dto;
+
+public record CategoryStatsDTO(Long categoryId, long questions, long served, long correct, long wrong,
+                               double accuracy) {
+
+    public CategoryStatsDTO(Long categoryId, long questions, long served, long correct, long wrong) {
+        this(categoryId, questions, served, correct, wrong, QuestionStatsDTO.accuracy(correct, wrong));
+    }
+
+    public static CategoryStatsDTO empty(Long categoryId) {
+        return new CategoryStatsDTO(categoryId, 0, 0, 0, 0);
+    }
+}
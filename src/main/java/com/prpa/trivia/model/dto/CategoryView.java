@@ -0,0 +1,13 @@
+package com.prpa.trivia.model.dto;
+
+import com.prpa.trivia.model.trivia.Category;
+
+/**
+ * Read-only projection of a category, serialized exactly like the entity.
+ */
+public record CategoryView(Long id, String name) {
+
+    public static CategoryView of(Category category) {
+        return new CategoryView(category.getId(), category.getName());
+    }
+}
@@ -0,0 +1,26 @@
+package com.prpa.trivia.model.dto;
+
+import java.util.Objects;
+
+/**
+ * UTF-8 JSON of a single resource as written in responses, together with the version it was serialized from and the
+ * view it was serialized from. Resources without a version column carry the generation they were read at instead,
+ * {@code null} when there is none.
+ */
+public record JsonFragment(byte[] json, Long version, Object source) {
+
+    public boolean isVersion(Long version) {
+        return Objects.equals(this.version, version);
+    }
+
+    /**
+     * True when the fragment was serialized from {@code source} or from a view with the same content.
+     */
+    public boolean isFrom(Object source) {
+        return this.source == source || Objects.equals(this.source, source);
+    }
+
+    public boolean isNewerThan(JsonFragment other) {
+        return version != null && other.version != null && version > other.version;
+    }
+}
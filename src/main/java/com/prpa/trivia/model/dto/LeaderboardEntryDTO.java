@@ -0,0 +1,4 @@
+package com.prpa.trivia.model.dto;
+
+public record LeaderboardEntryDTO(long rank, String player, long score) {
+}
@@ -0,0 +1,45 @@
+package com.prpa.trivia.model.dto;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Fields a client can pick with {@code fields=}. The property is both the JSON name and the entity attribute.
+ */
+public enum QuestionField {
+    ID("id"),
+    CATEGORY("category"),
+    DIFFICULTY("difficulty"),
+    TYPE("type"),
+    STATEMENT("statement"),
+    ALTERNATIVES("alternatives"),
+    CORRECT_INDEX("correctIndex");
+
+    public static final Set<QuestionField> ALL = Collections.unmodifiableSet(EnumSet.allOf(QuestionField.class));
+
+    private final String property;
+
+    QuestionField(String property) {
+        this.property = property;
+    }
+
+    public String property() {
+        return property;
+    }
+
+    public static Optional<QuestionField> ofProperty(String property) {
+        return Arrays.stream(values())
+                .filter(field -> field.property.equals(property))
+                .findFirst();
+    }
+
+    /**
+     * True when the fields select less than the whole question.
+     */
+    public static boolean isSparse(Set<QuestionField> fields) {
+        return !fields.containsAll(ALL);
+    }
+}
@@ -0,0 +1,18 @@
+package com.prpa.trivia.model.dto;
+
+import com.prpa.trivia.model.trivia.Difficulty;
+import com.prpa.trivia.model.trivia.Type;
+
+import java.util.Set;
+
+/**
+ * Values are OR'ed inside each dimension and the dimensions are AND'ed, an empty set does not filter.
+ */
+public record QuestionFilter(Set<Long> categoryIds, Set<Difficulty> difficulties, Set<Type> types) {
+
+    public QuestionFilter {
+        categoryIds = categoryIds == null ? Set.of() : Set.copyOf(categoryIds);
+        difficulties = difficulties == null ? Set.of() : Set.copyOf(difficulties);
+        types = types == null ? Set.of() : Set.copyOf(types);
+    }
+}
@@ -0,0 +1,18 @@
+package com.prpa.trivia.model.dto;
+
+import java.util.List;
+
+public record QuestionImportReport(long created, long duplicate, long invalid, List<QuestionImportResult> items) {
+
+    public static QuestionImportReport of(List<QuestionImportResult> items) {
+        long created = 0, duplicate = 0, invalid = 0;
+        for (QuestionImportResult item : items) {
+            switch (item.status()) {
+                case CREATED -> created++;
+                case DUPLICATE -> duplicate++;
+                case INVALID -> invalid++;
+            }
+        }
+        return new QuestionImportReport(created, duplicate, invalid, items);
+    }
+}
@@ -0,0 +1,28 @@
+package com.prpa.trivia.model.dto;
+
+import com.prpa.trivia.model.exceptions.FieldReason;
+
+import java.util.List;
+import java.util.UUID;
+
+public record QuestionImportResult(int index, Status status, UUID id, List<FieldReason> errors) {
+
+    public enum Status {
+        CREATED,
+        DUPLICATE,
+        INVALID
+    }
+
+    public static QuestionImportResult created(int index, UUID id) {
+        return new QuestionImportResult(index, Status.CREATED, id, List.of());
+    }
+
+    public static QuestionImportResult duplicate(int index) {
+        return new QuestionImportResult(index, Status.DUPLICATE, null,
+                List.of(new FieldReason("statement", "error.question.bulk.duplicate.message")));
+    }
+
+    public static QuestionImportResult invalid(int index, List<FieldReason> errors) {
+        return new QuestionImportResult(index, Status.INVALID, null, errors);
+    }
+}
@@ -0,0 +1,9 @@
+package com.prpa.trivia.model.dto;
+
+import com.prpa.trivia.model.trivia.Difficulty;
+import com.prpa.trivia.model.trivia.Type;
+
+import java.util.UUID;
+
+public record QuestionIndexEntry(UUID id, Long categoryId, Difficulty difficulty, Type type) {
+}
@@ -0,0 +1,17 @@
+package com.prpa.trivia.model.dto;
+
+import java.util.Map;
+import java.util.UUID;
+
+public record QuestionStatsDTO(UUID questionId, long served, long correct, long wrong, double accuracy,
+                               Map<Integer, Long> picks) {
+
+    public static QuestionStatsDTO of(UUID questionId, long served, long correct, long wrong, Map<Integer, Long> picks) {
+        return new QuestionStatsDTO(questionId, served, correct, wrong, accuracy(correct, wrong), picks);
+    }
+
+    static double accuracy(long correct, long wrong) {
+        long answered = correct + wrong;
+        return answered == 0 ? 0 : (double) correct / answered;
+    }
+}
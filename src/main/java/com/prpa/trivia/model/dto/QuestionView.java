@@ -0,0 +1,93 @@
+package com.prpa.trivia.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.prpa.trivia.model.trivia.Difficulty;
+import com.prpa.trivia.model.trivia.Question;
+import com.prpa.trivia.model.trivia.Type;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Read-only projection of a question with its categories, serialized exactly like the entity. Built from
+ * {@link QuestionViewRow}s, so reads never hydrate or dirty check entities. Fields left out of a sparse view are null
+ * and not serialized.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record QuestionView(UUID id, List<CategoryView> category, Difficulty difficulty, Type type, String statement,
+                           List<String> alternatives, Integer correctIndex, @JsonIgnore Long version) {
+
+    public static QuestionView of(Question question) {
+        return new QuestionView(question.getId(),
+                question.getCategory() == null ? List.of() : question.getCategory().stream().map(CategoryView::of).toList(),
+                question.getDifficulty(),
+                question.getType(),
+                question.getStatement(),
+                question.getAlternatives() == null ? null : List.copyOf(question.getAlternatives()),
+                question.getCorrectIndex(),
+                question.getVersion());
+    }
+
+    public boolean isNewerThan(QuestionView other) {
+        return version != null && other.version != null && version > other.version;
+    }
+
+    /**
+     * Keeps only the given fields, the id and the version are always kept.
+     */
+    public QuestionView select(Set<QuestionField> fields) {
+        return new QuestionView(id,
+                fields.contains(QuestionField.CATEGORY) ? category : null,
+                fields.contains(QuestionField.DIFFICULTY) ? difficulty : null,
+                fields.contains(QuestionField.TYPE) ? type : null,
+                fields.contains(QuestionField.STATEMENT) ? statement : null,
+                fields.contains(QuestionField.ALTERNATIVES) ? alternatives : null,
+                fields.contains(QuestionField.CORRECT_INDEX) ? correctIndex : null,
+                version);
+    }
+
+    /**
+     * Groups the rows of each question into one view, keyed by id in the order the questions first appear.
+     */
+    public static Map<UUID, QuestionView> fromRows(List<QuestionViewRow> rows) {
+        Map<UUID, QuestionView> views = new LinkedHashMap<>();
+        Grouper grouper = new Grouper(view -> views.put(view.id(), view));
+        rows.forEach(grouper::add);
+        grouper.flush();
+        return views;
+    }
+
+    /**
+     * Folds consecutive rows of the same question into views, for row streams ordered by question id.
+     */
+    public static class Grouper {
+
+        private final Consumer<QuestionView> consumer;
+        private QuestionViewRow first;
+        private List<CategoryView> categories = new ArrayList<>();
+
+        public Grouper(Consumer<QuestionView> consumer) {
+            this.consumer = consumer;
+        }
+
+        public void add(QuestionViewRow row) {
+            if (first != null && !first.id().equals(row.id())) flush();
+            if (first == null) first = row;
+            if (row.categoryId() != null) categories.add(new CategoryView(row.categoryId(), row.categoryName()));
+        }
+
+        public void flush() {
+            if (first == null) return;
+            consumer.accept(new QuestionView(first.id(), List.copyOf(categories), first.difficulty(), first.type(),
+                    first.statement(), first.alternatives(), first.correctIndex(), first.version()));
+            first = null;
+            categories = new ArrayList<>();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.prpa.trivia.model.dto;
+
+import com.prpa.trivia.model.trivia.Difficulty;
+import com.prpa.trivia.model.trivia.Type;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One row of the question projection query: the question columns joined with one of its categories, or with
+ * {@code null} category columns when it has none.
+ */
+public record QuestionViewRow(UUID id, Difficulty difficulty, Type type, String statement, List<String> alternatives,
+                              Integer correctIndex, Long version, Long categoryId, String categoryName) {
+}
@@ -0,0 +1,22 @@
+package com.prpa.trivia.model.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.*;
+
+@Getter
+@Setter
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuizAnswerDTO {
+
+    @NotNull(message = "error.quiz.empty.position.message")
+    @PositiveOrZero(message = "error.quiz.positive.position.message")
+    private Integer position;
+
+    @NotNull(message = "error.quiz.empty.alternative.message")
+    @PositiveOrZero(message = "error.quiz.positive.alternative.message")
+    private Integer alternative;
+}
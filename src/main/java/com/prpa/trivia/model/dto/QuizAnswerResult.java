@@ -0,0 +1,4 @@
+package com.prpa.trivia.model.dto;
+
+public record QuizAnswerResult(boolean correct, int correctIndex, int score, boolean finished) {
+}
@@ -0,0 +1,20 @@
+package com.prpa.trivia.model.dto;
+
+import com.prpa.trivia.model.quiz.QuizQuestion;
+import com.prpa.trivia.model.trivia.Difficulty;
+import com.prpa.trivia.model.trivia.Type;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A question as shown to the player, without the index of the correct alternative.
+ */
+public record QuizQuestionDTO(int position, int total, UUID id, List<String> category, Difficulty difficulty,
+                              Type type, String statement, List<String> alternatives) {
+
+    public static QuizQuestionDTO of(int position, int total, QuizQuestion question) {
+        return new QuizQuestionDTO(position, total, question.id(), question.category(), question.difficulty(),
+                question.type(), question.statement(), question.alternatives());
+    }
+}
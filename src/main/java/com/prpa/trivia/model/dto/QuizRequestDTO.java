@@ -0,0 +1,35 @@
+package com.prpa.trivia.model.dto;
+
+import com.prpa.trivia.model.trivia.Difficulty;
+import com.prpa.trivia.model.trivia.Type;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+@Getter
+@Setter
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuizRequestDTO {
+
+    public static final int MAX_QUESTIONS = 50;
+    public static final int MAX_PLAYER_LENGTH = 64;
+
+    @NotNull(message = "error.quiz.empty.count.message")
+    @Min(value = 1, message = "error.quiz.range.count.message")
+    @Max(value = MAX_QUESTIONS, message = "error.quiz.range.count.message")
+    private Integer count;
+
+    private String category;
+
+    private Difficulty difficulty;
+
+    private Type type;
+
+    @Size(max = MAX_PLAYER_LENGTH, message = "error.quiz.size.player.message")
+    private String player;
+}
@@ -0,0 +1,13 @@
+package com.prpa.trivia.model.dto;
+
+import com.prpa.trivia.model.quiz.QuizSession;
+
+import java.util.UUID;
+
+public record QuizSessionDTO(UUID id, int total, int answered, int score, boolean finished) {
+
+    public static QuizSessionDTO of(QuizSession session) {
+        return new QuizSessionDTO(session.getId(), session.getQuestions().size(), session.getPosition(),
+                session.getScore(), session.isFinished());
+    }
+}
@@ -0,0 +1,6 @@
+package com.prpa.trivia.model.dto;
+
+import java.util.UUID;
+
+public record SimilarQuestion(UUID id, double similarity) {
+}
@@ -0,0 +1,38 @@
+package com.prpa.trivia.model.exceptions;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ProblemDetail;
+
+@Getter
+public class InvalidParameterException extends FieldApiException {
+
+    public static final String ERROR_PARAMETER_INVALID_TITLE = "error.parameter.invalid.title";
+    public static final String ERROR_PARAMETER_INVALID_MESSAGE = "error.parameter.invalid.message";
+
+    public InvalidParameterException(String... fields) {
+        super(fields);
+    }
+
+    @Override
+    public HttpStatusCode getStatusCode() {
+        return HttpStatus.BAD_REQUEST;
+    }
+
+    @Override
+    public ProblemDetail getBody() {
+        return this.body;
+    }
+
+    @Override
+    public String getTitleMessageCode() {
+        return ERROR_PARAMETER_INVALID_TITLE;
+    }
+
+    @Override
+    public String getDetailMessageCode() {
+        return ERROR_PARAMETER_INVALID_MESSAGE;
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.prpa.trivia.model.exceptions;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@Getter
+@ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+public class PreconditionFailedException extends FieldApiException {
+
+    public static final String ERROR_PRECONDITION_FAILED_TITLE = "error.precondition.failed.title";
+    public static final String ERROR_PRECONDITION_FAILED_MESSAGE = "error.precondition.failed.message";
+
+    public PreconditionFailedException(String ... fieldValues) {
+        super(fieldValues);
+        this.body.setStatus(HttpStatus.valueOf(getStatusCode().value()));
+    }
+
+    @Override
+    public ProblemDetail getBody() {
+        return this.body;
+    }
+
+    @Override
+    public HttpStatusCode getStatusCode() {
+        return HttpStatus.PRECONDITION_FAILED;
+    }
+
+    @Override
+    public String getTitleMessageCode() {
+        return ERROR_PRECONDITION_FAILED_TITLE;
+    }
+
+    @Override
+    public String getDetailMessageCode() {
+        return ERROR_PRECONDITION_FAILED_MESSAGE;
+    }
+}
@@ -0,0 +1,53 @@
+package com.prpa.trivia.model.quiz;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Last persisted score of a player on a board. Rows are written only by {@code LeaderboardService} snapshots.
+ */
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@IdClass(LeaderboardSnapshot.Key.class)
+@Table(name = "Leaderboard_Snapshot")
+public class LeaderboardSnapshot {
+
+    @Id
+    @Column(name = "scope", nullable = false)
+    private String scope;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "board_window", nullable = false)
+    private LeaderboardWindow boardWindow;
+
+    @Id
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Id
+    @Column(name = "player", nullable = false, length = 64)
+    private String player;
+
+    @Column(name = "score", nullable = false)
+    private long score;
+
+    @Getter
+    @Setter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+
+        private String scope;
+        private LeaderboardWindow boardWindow;
+        private LocalDate periodStart;
+        private String player;
+    }
+}
@@ -0,0 +1,23 @@
+package com.prpa.trivia.model.quiz;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+public enum LeaderboardWindow {
+
+    ALL_TIME,
+    DAILY,
+    WEEKLY;
+
+    /**
+     * First day of the period of this window containing {@code today}, all time boards have a single period.
+     */
+    public LocalDate periodStart(LocalDate today) {
+        return switch (this) {
+            case ALL_TIME -> LocalDate.EPOCH;
+            case DAILY -> today;
+            case WEEKLY -> today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        };
+    }
+}
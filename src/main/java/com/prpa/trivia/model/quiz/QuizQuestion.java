@@ -0,0 +1,27 @@
+package com.prpa.trivia.model.quiz;
+
+import com.prpa.trivia.model.dto.CategoryView;
+import com.prpa.trivia.model.dto.QuestionView;
+import com.prpa.trivia.model.trivia.Difficulty;
+import com.prpa.trivia.model.trivia.Type;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Snapshot of a question taken when the session is created, so answers are scored without going back to the
+ * database and later edits of the question do not change a running game.
+ */
+public record QuizQuestion(UUID id, List<String> category, Difficulty difficulty, Type type, String statement,
+                           List<String> alternatives, int correctIndex) {
+
+    public static QuizQuestion of(QuestionView question) {
+        return new QuizQuestion(question.id(),
+                question.category().stream().map(CategoryView::name).toList(),
+                question.difficulty(),
+                question.type(),
+                question.statement(),
+                List.copyOf(question.alternatives()),
+                question.correctIndex());
+    }
+}
@@ -0,0 +1,48 @@
+package com.prpa.trivia.model.quiz;
+
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Mutable game state, guarded by the session lock in {@code QuizService}.
+ */
+@Getter
+public class QuizSession {
+
+    private final UUID id;
+    private final List<QuizQuestion> questions;
+    private final Instant createdAt;
+    private final String player;
+    private int position;
+    private int score;
+
+    public QuizSession(UUID id, List<QuizQuestion> questions, Instant createdAt) {
+        this(id, questions, createdAt, null);
+    }
+
+    public QuizSession(UUID id, List<QuizQuestion> questions, Instant createdAt, String player) {
+        this.id = id;
+        this.questions = List.copyOf(questions);
+        this.createdAt = createdAt;
+        this.player = player;
+    }
+
+    public boolean isFinished() {
+        return position >= questions.size();
+    }
+
+    public QuizQuestion current() {
+        if (isFinished()) throw new IllegalStateException("The session is finished.");
+        return questions.get(position);
+    }
+
+    public boolean answer(int alternative) {
+        boolean correct = current().correctIndex() == alternative;
+        if (correct) score++;
+        position++;
+        return correct;
+    }
+}
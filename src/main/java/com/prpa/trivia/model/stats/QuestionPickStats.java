@@ -0,0 +1,39 @@
+package com.prpa.trivia.model.stats;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@IdClass(QuestionPickStats.Key.class)
+@Table(name = "Question_Pick_Stats")
+public class QuestionPickStats {
+
+    @Id
+    @Column(name = "question_id", nullable = false)
+    private UUID questionId;
+
+    @Id
+    @Column(name = "alternative", nullable = false)
+    private int alternative;
+
+    @Column(name = "picks", nullable = false)
+    private long picks;
+
+    @Getter
+    @Setter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+
+        private UUID questionId;
+        private int alternative;
+    }
+}
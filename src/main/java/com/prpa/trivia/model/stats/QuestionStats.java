@@ -0,0 +1,32 @@
+package com.prpa.trivia.model.stats;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * Aggregated counters of a question. Rows are written only by {@code QuestionStatsService} as batched increments,
+ * never through the persistence context.
+ */
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "Question_Stats")
+public class QuestionStats {
+
+    @Id
+    @Column(name = "question_id", nullable = false)
+    private UUID questionId;
+
+    @Column(name = "served", nullable = false)
+    private long served;
+
+    @Column(name = "correct", nullable = false)
+    private long correct;
+
+    @Column(name = "wrong", nullable = false)
+    private long wrong;
+}
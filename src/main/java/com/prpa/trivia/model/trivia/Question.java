@@ -1,10 +1,12 @@
 package com.prpa.trivia.model.trivia;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.validator.constraints.Length;
 
 import java.util.List;
@@ -16,18 +18,20 @@ import java.util.UUID;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "Question")
+@Table(name = "Question", uniqueConstraints =
+        @UniqueConstraint(name = "question_statement_hash_unique", columnNames = "statement_hash"))
 public class Question {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @JoinTable(name = "Question_Category",
             uniqueConstraints = @UniqueConstraint(name = "question_category_unique", columnNames = {"question_id", "category_id"}),
             joinColumns = @JoinColumn(name = "question_id", referencedColumnName = "id", nullable = false),
             inverseJoinColumns = @JoinColumn(name = "category_id", referencedColumnName = "id", nullable = false))
-    @ManyToMany(cascade = CascadeType.MERGE, fetch = FetchType.EAGER)
+    @BatchSize(size = 100)
+    @ManyToMany(cascade = CascadeType.MERGE, fetch = FetchType.LAZY)
     private List<Category> category;
 
     @NotNull
@@ -42,9 +46,13 @@ public class Question {
 
     @NotBlank
     @Length(min = 5)
-    @Column(name = "statement", nullable = false, unique = true, columnDefinition = "TEXT")
+    @Column(name = "statement", nullable = false, columnDefinition = "TEXT")
     private String statement;
 
+    @JsonIgnore
+    @Column(name = "statement_hash", length = StatementHash.LENGTH)
+    private String statementHash;
+
     @NotEmpty
     @Column(name = "alternatives", nullable = false)
     private List<String> alternatives;
@@ -52,4 +60,15 @@ public class Question {
     @NotNull
     @Column(name = "correct", nullable = false)
     private Integer correctIndex;
+
+    @Version
+    @JsonIgnore
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
+    @PrePersist
+    @PreUpdate
+    private void hashStatement() {
+        statementHash = StatementHash.of(statement);
+    }
 }
@@ -0,0 +1,37 @@
+package com.prpa.trivia.model.trivia;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public final class StatementHash {
+
+    public static final int LENGTH = 64;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private StatementHash() {}
+
+    /**
+     * SHA-256 of the normalized statement as 64 lowercase hex characters. Statements that only differ in case,
+     * surrounding or repeated whitespace or Unicode compatibility forms share the same hash.
+     */
+    public static String of(String statement) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(normalize(statement).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available.", e);
+        }
+    }
+
+    public static String normalize(String statement) {
+        if (statement == null) return "";
+        String normalized = Normalizer.normalize(statement, Normalizer.Form.NFKC);
+        return WHITESPACE.matcher(normalized.strip()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+}
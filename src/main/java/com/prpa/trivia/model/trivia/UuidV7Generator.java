@@ -0,0 +1,59 @@
+package com.prpa.trivia.model.trivia;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_SEED_BOUND = 1L << (COUNTER_BITS - 1);
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    /** Last issued unix millisecond timestamp shifted left by {@value #COUNTER_BITS} plus its sequence counter. */
+    private static final AtomicLong LAST = new AtomicLong();
+
+    /**
+     * UUIDv7 (RFC 9562) with a 48 bit millisecond timestamp and a 12 bit counter in place of {@code rand_a}. The
+     * counter starts at a random value in the lower half of its range each millisecond and is incremented for every
+     * identifier issued in the same millisecond, so identifiers are strictly increasing across threads. When the
+     * counter overflows or the clock goes backwards the timestamp is advanced instead of reused.
+     */
+    public static UUID next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long candidate = (System.currentTimeMillis() << COUNTER_BITS) | random.nextLong(COUNTER_SEED_BOUND);
+        long last;
+        long next;
+        do {
+            last = LAST.get();
+            next = candidate > last ? candidate : last + 1;
+        } while (!LAST.compareAndSet(last, next));
+
+        long mostSigBits = (next >>> COUNTER_BITS) << 16 | VERSION | (next & ((1L << COUNTER_BITS) - 1));
+        long leastSigBits = VARIANT | (random.nextLong() & RANDOM_MASK);
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    public static long timestampOf(UUID uuid) {
+        if (uuid.version() != 7) throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -1,10 +1,14 @@
 package com.prpa.trivia.repository;
 
+import com.prpa.trivia.model.dto.CategoryView;
 import com.prpa.trivia.model.trivia.Category;
 import jakarta.validation.constraints.NotBlank;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,4 +17,12 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
     boolean existsByName(String name);
 
     Optional<Category> findByName(@NotBlank(message = "error.category.empty.name.message") String name);
+
+    Optional<CategoryView> findViewById(Long id);
+
+    List<CategoryView> findViewBy(Pageable pageable);
+
+    List<CategoryView> findViewByIdGreaterThan(Long id, Pageable pageable);
+
+    List<Category> findAllByNameIn(Collection<String> names);
 }
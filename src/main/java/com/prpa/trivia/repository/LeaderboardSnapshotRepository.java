@@ -0,0 +1,14 @@
+package com.prpa.trivia.repository;
+
+import com.prpa.trivia.model.quiz.LeaderboardSnapshot;
+import com.prpa.trivia.model.quiz.LeaderboardWindow;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface LeaderboardSnapshotRepository extends JpaRepository<LeaderboardSnapshot, LeaderboardSnapshot.Key> {
+
+    List<LeaderboardSnapshot> findByBoardWindowAndPeriodStart(LeaderboardWindow boardWindow, LocalDate periodStart);
+
+}
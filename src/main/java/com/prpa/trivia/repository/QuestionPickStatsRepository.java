@@ -0,0 +1,13 @@
+package com.prpa.trivia.repository;
+
+import com.prpa.trivia.model.stats.QuestionPickStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface QuestionPickStatsRepository extends JpaRepository<QuestionPickStats, QuestionPickStats.Key> {
+
+    List<QuestionPickStats> findByQuestionIdOrderByAlternative(UUID questionId);
+
+}
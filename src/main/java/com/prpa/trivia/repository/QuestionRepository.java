@@ -1,12 +1,77 @@
 package com.prpa.trivia.repository;
 
+import com.prpa.trivia.model.dto.QuestionAnswerEntry;
+import com.prpa.trivia.model.dto.QuestionIndexEntry;
+import com.prpa.trivia.model.dto.QuestionStatementEntry;
+import com.prpa.trivia.model.dto.QuestionViewRow;
+import com.prpa.trivia.model.trivia.Difficulty;
 import com.prpa.trivia.model.trivia.Question;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface QuestionRepository extends JpaRepository<Question, UUID> {
+public interface QuestionRepository extends JpaRepository<Question, UUID>, QuestionSparseRepository {
 
-    boolean existsByStatement(String statement);
+    boolean existsByStatementHash(String statementHash);
+
+    @Override
+    @EntityGraph(attributePaths = "category")
+    Optional<Question> findById(UUID id);
+
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query("select new com.prpa.trivia.model.dto.QuestionViewRow(q.id, q.difficulty, q.type, q.statement, " +
+            "q.alternatives, q.correctIndex, q.version, c.id, c.name) " +
+            "from Question q left join q.category c where q.id in :ids order by q.id")
+    List<QuestionViewRow> findViewRowsByIdIn(Collection<UUID> ids);
+
+    @Query("select q.id from Question q")
+    List<UUID> findPageIds(Pageable pageable);
+
+    @Query("select q.id from Question q where q.id > :id")
+    List<UUID> findPageIdsAfter(UUID id, Pageable pageable);
+
+    @Query("select q.statementHash from Question q where q.statementHash in :statementHashes")
+    List<String> findExistingStatementHashes(Collection<String> statementHashes);
+
+    @Query("select q from Question q where q.statementHash is null and (:after is null or q.id > :after)")
+    List<Question> findUnhashedAfter(UUID after, Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    @Query("select new com.prpa.trivia.model.dto.QuestionViewRow(q.id, q.difficulty, q.type, q.statement, " +
+            "q.alternatives, q.correctIndex, q.version, c.id, c.name) " +
+            "from Question q left join q.category c " +
+            "where (:difficulty is null or q.difficulty = :difficulty) " +
+            "and (:categoryId is null or exists (select f from q.category f where f.id = :categoryId)) " +
+            "order by q.id")
+    Stream<QuestionViewRow> streamViewRows(Difficulty difficulty, Long categoryId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.prpa.trivia.model.dto.QuestionIndexEntry(q.id, c.id, q.difficulty, q.type) " +
+            "from Question q left join q.category c " +
+            "order by q.id")
+    Stream<QuestionIndexEntry> streamIndexEntries();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.prpa.trivia.model.dto.QuestionStatementEntry(q.id, q.statement) from Question q")
+    Stream<QuestionStatementEntry> streamStatements();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.prpa.trivia.model.dto.QuestionAnswerEntry(q.id, q.correctIndex) from Question q")
+    Stream<QuestionAnswerEntry> streamAnswers();
 
 }
@@ -0,0 +1,18 @@
+package com.prpa.trivia.repository;
+
+import com.prpa.trivia.model.dto.QuestionField;
+import com.prpa.trivia.model.dto.QuestionView;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public interface QuestionSparseRepository {
+
+    /**
+     * Selects only the columns of the given fields, joining the categories only when they were asked for. The
+     * views come ordered by id.
+     */
+    List<QuestionView> findSparseByIdIn(Collection<UUID> ids, Set<QuestionField> fields);
+}
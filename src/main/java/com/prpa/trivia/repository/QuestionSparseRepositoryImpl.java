@@ -0,0 +1,85 @@
+package com.prpa.trivia.repository;
+
+import com.prpa.trivia.model.dto.CategoryView;
+import com.prpa.trivia.model.dto.QuestionField;
+import com.prpa.trivia.model.dto.QuestionView;
+import com.prpa.trivia.model.trivia.Difficulty;
+import com.prpa.trivia.model.trivia.Type;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public class QuestionSparseRepositoryImpl implements QuestionSparseRepository {
+
+    private static final String CATEGORY_ID = "categoryId";
+    private static final String CATEGORY_NAME = "categoryName";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<QuestionView> findSparseByIdIn(Collection<UUID> ids, Set<QuestionField> fields) {
+        if (ids.isEmpty()) return List.of();
+
+        boolean withCategory = fields.contains(QuestionField.CATEGORY);
+        StringBuilder jpql = new StringBuilder("select q.id as id, q.version as version");
+        for (QuestionField field : fields) {
+            if (field == QuestionField.ID || field == QuestionField.CATEGORY) continue;
+            jpql.append(", q.").append(field.property()).append(" as ").append(field.property());
+        }
+        if (withCategory) jpql.append(", c.id as " + CATEGORY_ID + ", c.name as " + CATEGORY_NAME);
+        jpql.append(" from Question q");
+        if (withCategory) jpql.append(" left join q.category c");
+        jpql.append(" where q.id in :ids order by q.id");
+
+        List<Tuple> rows = entityManager.createQuery(jpql.toString(), Tuple.class)
+                .setParameter("ids", ids)
+                .setHint(HibernateHints.HINT_FLUSH_MODE, "MANUAL")
+                .getResultList();
+
+        List<QuestionView> views = new ArrayList<>();
+        Tuple first = null;
+        List<CategoryView> categories = new ArrayList<>();
+        for (Tuple row : rows) {
+            if (first != null && !idOf(first).equals(idOf(row))) {
+                views.add(viewOf(first, fields, categories));
+                first = null;
+                categories = new ArrayList<>();
+            }
+            if (first == null) first = row;
+            if (withCategory && row.get(CATEGORY_ID) != null)
+                categories.add(new CategoryView(row.get(CATEGORY_ID, Long.class), row.get(CATEGORY_NAME, String.class)));
+        }
+        if (first != null) views.add(viewOf(first, fields, categories));
+        return views;
+    }
+
+    private static UUID idOf(Tuple row) {
+        return row.get(QuestionField.ID.property(), UUID.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static QuestionView viewOf(Tuple row, Set<QuestionField> fields, List<CategoryView> categories) {
+        return new QuestionView(idOf(row),
+                fields.contains(QuestionField.CATEGORY) ? List.copyOf(categories) : null,
+                (Difficulty) valueOf(row, fields, QuestionField.DIFFICULTY),
+                (Type) valueOf(row, fields, QuestionField.TYPE),
+                (String) valueOf(row, fields, QuestionField.STATEMENT),
+                (List<String>) valueOf(row, fields, QuestionField.ALTERNATIVES),
+                (Integer) valueOf(row, fields, QuestionField.CORRECT_INDEX),
+                row.get("version", Long.class));
+    }
+
+    private static Object valueOf(Tuple row, Set<QuestionField> fields, QuestionField field) {
+        return fields.contains(field) ? row.get(field.property()) : null;
+    }
+}
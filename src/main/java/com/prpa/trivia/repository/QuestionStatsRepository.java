@@ -0,0 +1,18 @@
+package com.prpa.trivia.repository;
+
+import com.prpa.trivia.model.dto.CategoryStatsDTO;
+import com.prpa.trivia.model.stats.QuestionStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.UUID;
+
+public interface QuestionStatsRepository extends JpaRepository<QuestionStats, UUID> {
+
+    @Query("select new com.prpa.trivia.model.dto.CategoryStatsDTO(c.id, count(s), coalesce(sum(s.served), 0L), " +
+            "coalesce(sum(s.correct), 0L), coalesce(sum(s.wrong), 0L)) " +
+            "from QuestionStats s join Question q on q.id = s.questionId join q.category c " +
+            "where c.id = :categoryId group by c.id")
+    CategoryStatsDTO findCategoryStats(Long categoryId);
+
+}
@@ -0,0 +1,41 @@
+package com.prpa.trivia.resources;
+
+import com.prpa.trivia.model.dto.AnswerCheckDTO;
+import com.prpa.trivia.model.dto.AnswerCheckReport;
+import com.prpa.trivia.service.QuestionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+@RestController
+public class AnswerController {
+
+    public static final String API = "/api/v1";
+    public static final String ANSWERS_PATH = API + "/answers";
+    public static final String CHECK_ANSWERS_PATH = ANSWERS_PATH + "/check";
+
+    private final QuestionService questionService;
+
+    @Autowired
+    public AnswerController(QuestionService questionService) {
+        this.questionService = questionService;
+    }
+
+    @Operation(summary = "Corrige um lote de respostas (questionId, chosenIndex) sem revelar as alternativas corretas.", method = "POST")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Respostas corrigidas, na mesma ordem do lote."),
+            @ApiResponse(responseCode = "400", description = "Lote vazio ou com mais respostas que o permitido.")
+    })
+    @PostMapping(value = CHECK_ANSWERS_PATH, consumes = APPLICATION_JSON_VALUE, produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<AnswerCheckReport> postAnswerCheck(@Valid @RequestBody AnswerCheckDTO check) {
+        return ResponseEntity.ok(questionService.checkAnswers(check.getAnswers()));
+    }
+}
@@ -0,0 +1,41 @@
+package com.prpa.trivia.resources;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.prpa.trivia.model.dto.CacheStatsDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+@RestController
+public class CacheController {
+
+    public static final String API = "/api/v1";
+    public static final String CACHES_PATH = API + "/caches";
+
+    private final Map<String, Cache<?, ?>> caches;
+
+    @Autowired
+    public CacheController(Map<String, Cache<?, ?>> caches) {
+        this.caches = caches;
+    }
+
+    @Operation(summary = "Busca os contadores de acerto, falha e remoção de cada cache.", method = "GET")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Contadores dos caches retornados."),
+    })
+    @GetMapping(value = CACHES_PATH, produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<Map<String, CacheStatsDTO>> getCaches() {
+        Map<String, CacheStatsDTO> stats = new TreeMap<>();
+        caches.forEach((name, cache) -> stats.put(name, CacheStatsDTO.of(cache)));
+        return ResponseEntity.ok(stats);
+    }
+}
@@ -2,14 +2,19 @@ package com.prpa.trivia.resources;
 
 import com.prpa.trivia.model.trivia.Category;
 import com.prpa.trivia.model.dto.CategoryDTO;
+import com.prpa.trivia.model.dto.CategoryView;
 import com.prpa.trivia.model.exceptions.ResourceAlreadyExistException;
 import com.prpa.trivia.model.exceptions.SpecificResourceNotFoundException;
 import com.prpa.trivia.service.CategoryService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.util.UriComponentsBuilder;
@@ -32,39 +37,52 @@ public class CategoryController {
     public static final Integer MAX_LIMIT = 100;
 
     private final CategoryService categoryService;
+    private final JsonFragments jsonFragments;
 
     @Autowired
-    public CategoryController(CategoryService categoryService) {
+    public CategoryController(CategoryService categoryService, JsonFragments jsonFragments) {
         this.categoryService = categoryService;
+        this.jsonFragments = jsonFragments;
     }
 
     @Operation(summary = "Busca categoria por ID (Long).", method = "GET")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Categoria com id especificado encontrada."),
+            @ApiResponse(responseCode = "200", description = "Categoria com id especificado encontrada.",
+                    content = @Content(schema = @Schema(implementation = CategoryView.class))),
             @ApiResponse(responseCode = "400", description = "Categoria com id especificado não encontrada.")
     })
     @GetMapping(value = "/categories/{id}", produces = APPLICATION_JSON_VALUE)
-    public ResponseEntity<Category> getCategories(@PathVariable("id") long id) {
-        Category found = categoryService.findById(id).orElseThrow(() ->
-                new SpecificResourceNotFoundException("id", String.valueOf(id)));
-
+    public ResponseEntity<byte[]> getCategories(@PathVariable("id") long id) {
+        long generation = categoryService.generation();
+        byte[] found = jsonFragments.cachedCategory(id, generation).orElseGet(() ->
+                jsonFragments.category(categoryService.findViewById(id).orElseThrow(() ->
+                        new SpecificResourceNotFoundException("id", String.valueOf(id))), generation));
         return ResponseEntity.ok(found);
     }
 
-    @Operation(summary = "Busca categorias dentro do offset e limit.", method = "GET")
+    @Operation(summary = "Busca categorias dentro do offset e limit ou a partir do cursor 'after'.", method = "GET")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Categorias retornadas."),
+            @ApiResponse(responseCode = "200", description = "Categorias retornadas, com o cursor da próxima página no header Link.",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = CategoryView.class)))),
+            @ApiResponse(responseCode = "400", description = "Cursor inválido.")
     })
     @GetMapping(value = "/categories", produces = APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<Category>> getCategories(
+    public ResponseEntity<byte[]> getCategories(
             @RequestParam(defaultValue = "0") int offset,
-            @RequestParam(defaultValue = "10") int limit) {
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(name = PageCursor.AFTER_PARAM, required = false) String after) {
         offset = offset < 0 ? DEFAULT_OFFSET : offset;
         limit = limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
 
-        List<Category> found = categoryService.findAll(offset, limit);
+        List<CategoryView> found = after == null ?
+                categoryService.findAll(offset, limit) :
+                categoryService.findAllAfter(PageCursor.decodeLong(after), limit);
 
-        return ResponseEntity.ok(found);
+        if (found.size() < limit) return ResponseEntity.ok(jsonFragments.categories(found));
+        Long lastId = found.get(found.size() - 1).id();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.LINK, PageCursor.nextLink(CATEGORIES, lastId, limit))
+                .body(jsonFragments.categories(found));
     }
 
     @Operation(summary = "Insere uma nova categoria.", method = "POST")
@@ -0,0 +1,126 @@
+package com.prpa.trivia.resources;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.prpa.trivia.model.dto.CategoryView;
+import com.prpa.trivia.model.dto.JsonFragment;
+import com.prpa.trivia.model.dto.QuestionField;
+import com.prpa.trivia.model.dto.QuestionView;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Serialized JSON of question and category views, cached per resource so hot reads write bytes instead of running
+ * Jackson on every request. A question fragment is only served for a view with the same content as the one it was
+ * serialized from, so the question cache stays the source of truth even when a category rename left the version
+ * untouched. Categories have no version, their fragments carry the category generation they were read at and are
+ * only served while no rename or delete committed since.
+ */
+@Component
+public class JsonFragments {
+
+    private static final byte[] OPEN = {'['};
+    private static final byte[] SEPARATOR = {','};
+    private static final byte[] CLOSE = {']'};
+
+    private final ObjectMapper objectMapper;
+    private final Cache<UUID, JsonFragment> questionJsonCache;
+    private final Cache<Long, JsonFragment> categoryJsonCache;
+
+    @Autowired
+    public JsonFragments(ObjectMapper objectMapper, Cache<UUID, JsonFragment> questionJsonCache,
+                         Cache<Long, JsonFragment> categoryJsonCache) {
+        this.objectMapper = objectMapper;
+        this.questionJsonCache = questionJsonCache;
+        this.categoryJsonCache = categoryJsonCache;
+    }
+
+    public JsonFragment question(QuestionView question) {
+        JsonFragment cached = questionJsonCache.getIfPresent(question.id());
+        if (cached != null && cached.isFrom(question)) return cached;
+
+        JsonFragment serialized = new JsonFragment(serialize(question), question.version(), question);
+        // A request still holding an older view must not replace the fragment of a newer one
+        return questionJsonCache.asMap().merge(question.id(), serialized,
+                (current, fresh) -> current.isNewerThan(fresh) ? current : fresh);
+    }
+
+    /**
+     * Sparse views are serialized on every request, each field combination would need its own cache entry.
+     */
+    public JsonFragment question(QuestionView question, Set<QuestionField> fields) {
+        if (!QuestionField.isSparse(fields)) return question(question);
+        return new JsonFragment(serialize(question), question.version(), question);
+    }
+
+    /**
+     * The cached JSON of the category, as long as it was read at the current {@code generation}.
+     */
+    public Optional<byte[]> cachedCategory(Long id, long generation) {
+        JsonFragment cached = categoryJsonCache.getIfPresent(id);
+        if (cached == null || !cached.isVersion(generation)) return Optional.empty();
+        return Optional.of(cached.json());
+    }
+
+    /**
+     * Serializes and caches the category, {@code generation} is the category generation read before the view was.
+     */
+    public byte[] category(CategoryView category, long generation) {
+        JsonFragment serialized = new JsonFragment(serialize(category), generation, category);
+        categoryJsonCache.asMap().merge(category.id(), serialized,
+                (current, fresh) -> current.isNewerThan(fresh) ? current : fresh);
+        return serialized.json();
+    }
+
+    public byte[] questions(List<QuestionView> questions) {
+        return array(questions, question -> question(question).json());
+    }
+
+    public byte[] questions(List<QuestionView> questions, Set<QuestionField> fields) {
+        if (!QuestionField.isSparse(fields)) return questions(questions);
+        return array(questions, this::serialize);
+    }
+
+    public byte[] categories(List<CategoryView> categories) {
+        return array(categories, this::serialize);
+    }
+
+    private <T> byte[] array(List<T> items, Function<T, byte[]> fragmentOf) {
+        byte[][] fragments = new byte[items.size()][];
+        int length = OPEN.length + CLOSE.length + Math.max(0, items.size() - 1) * SEPARATOR.length;
+        for (int i = 0; i < fragments.length; i++) {
+            fragments[i] = fragmentOf.apply(items.get(i));
+            length += fragments[i].length;
+        }
+
+        byte[] json = new byte[length];
+        int position = append(json, 0, OPEN);
+        for (int i = 0; i < fragments.length; i++) {
+            if (i > 0) position = append(json, position, SEPARATOR);
+            position = append(json, position, fragments[i]);
+        }
+        append(json, position, CLOSE);
+        return json;
+    }
+
+    private int append(byte[] target, int position, byte[] source) {
+        System.arraycopy(source, 0, target, position, source.length);
+        return position + source.length;
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.prpa.trivia.resources;
+
+import com.prpa.trivia.model.dto.LeaderboardEntryDTO;
+import com.prpa.trivia.model.exceptions.SpecificResourceNotFoundException;
+import com.prpa.trivia.model.quiz.LeaderboardWindow;
+import com.prpa.trivia.service.LeaderboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+@RestController
+public class LeaderboardController {
+
+    public static final String API = "/api/v1";
+    public static final String LEADERBOARD_PATH = API + "/leaderboard";
+    public static final String LEADERBOARD_PLAYER_PATH = LEADERBOARD_PATH + "/players/{player}";
+
+    public static final Integer DEFAULT_OFFSET = 0;
+    public static final Integer DEFAULT_LIMIT = 10;
+
+    public static final Integer MAX_LIMIT = 100;
+
+    private final LeaderboardService leaderboardService;
+
+    @Autowired
+    public LeaderboardController(LeaderboardService leaderboardService) {
+        this.leaderboardService = leaderboardService;
+    }
+
+    @Operation(summary = "Busca os jogadores com maior pontuação do placar geral ou de uma categoria, dentro do offset e limit.", method = "GET")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Jogadores do placar ordenados pela pontuação."),
+            @ApiResponse(responseCode = "400", description = "Janela do placar inválida.")
+    })
+    @GetMapping(value = LEADERBOARD_PATH, produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<LeaderboardEntryDTO>> getLeaderboard(
+            @RequestParam(defaultValue = "ALL_TIME") LeaderboardWindow window,
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "10") int limit) {
+        offset = offset < 0 ? DEFAULT_OFFSET : offset;
+        limit = limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+
+        return ResponseEntity.ok(leaderboardService.top(window, category, OffsetPageRequest.of(offset, limit)));
+    }
+
+    @Operation(summary = "Busca a posição e a pontuação de um jogador no placar geral ou de uma categoria.", method = "GET")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Posição do jogador, jogadores empatados dividem a mesma posição."),
+            @ApiResponse(responseCode = "400", description = "Jogador não encontrado no placar especificado.")
+    })
+    @GetMapping(value = LEADERBOARD_PLAYER_PATH, produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<LeaderboardEntryDTO> getPlayerRank(
+            @PathVariable("player") String player,
+            @RequestParam(defaultValue = "ALL_TIME") LeaderboardWindow window,
+            @RequestParam(required = false) String category) {
+        LeaderboardEntryDTO found = leaderboardService.rank(window, category, player)
+                .orElseThrow(() -> new SpecificResourceNotFoundException("player", player));
+
+        return ResponseEntity.ok(found);
+    }
+}
@@ -0,0 +1,66 @@
+package com.prpa.trivia.resources;
+
+import com.prpa.trivia.model.exceptions.InvalidParameterException;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque keyset cursor for the list endpoints. Lists are ordered by primary key, so the last id seen is the
+ * whole sort key and the next page is fetched with {@code id > after} instead of a SQL OFFSET.
+ */
+public final class PageCursor {
+
+    public static final String AFTER_PARAM = "after";
+
+    private static final String VERSION = "v1:";
+
+    private PageCursor() {
+    }
+
+    public static String encode(Object lastId) {
+        byte[] raw = (VERSION + lastId).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    public static UUID decodeUUID(String cursor) {
+        try {
+            return UUID.fromString(decode(cursor));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidParameterException(AFTER_PARAM, cursor);
+        }
+    }
+
+    public static Long decodeLong(String cursor) {
+        try {
+            return Long.valueOf(decode(cursor));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidParameterException(AFTER_PARAM, cursor);
+        }
+    }
+
+    public static String nextLink(String path, Object lastId, int limit) {
+        return nextLink(path, lastId, limit, new LinkedMultiValueMap<>());
+    }
+
+    public static String nextLink(String path, Object lastId, int limit, MultiValueMap<String, String> params) {
+        String uri = UriComponentsBuilder.fromPath(path)
+                .queryParams(params)
+                .queryParam(AFTER_PARAM, encode(lastId))
+                .queryParam("limit", limit)
+                .encode()
+                .build()
+                .toUriString();
+        return "<%s>; rel=\"next\"".formatted(uri);
+    }
+
+    private static String decode(String cursor) {
+        String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        if (!decoded.startsWith(VERSION)) throw new IllegalArgumentException("Unknown cursor version.");
+        return decoded.substring(VERSION.length());
+    }
+}
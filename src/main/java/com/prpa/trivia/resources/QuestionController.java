@@ -1,82 +1,298 @@
 package com.prpa.trivia.resources;
 
+import com.prpa.trivia.model.trivia.Difficulty;
 import com.prpa.trivia.model.trivia.Question;
+import com.prpa.trivia.model.trivia.Type;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.prpa.trivia.model.dto.JsonFragment;
 import com.prpa.trivia.model.dto.QuestionDTO;
+import com.prpa.trivia.model.dto.QuestionField;
+import com.prpa.trivia.model.dto.QuestionFilter;
+import com.prpa.trivia.model.dto.QuestionImportReport;
+import com.prpa.trivia.model.dto.QuestionImportResult;
+import com.prpa.trivia.model.dto.QuestionView;
+import com.prpa.trivia.model.dto.SimilarQuestion;
+import com.prpa.trivia.model.exceptions.FieldReason;
+import com.prpa.trivia.model.exceptions.InvalidParameterException;
+import com.prpa.trivia.model.exceptions.PreconditionFailedException;
 import com.prpa.trivia.model.exceptions.ResourceAlreadyExistException;
+import com.prpa.trivia.model.exceptions.SimilarResourceExistsException;
 import com.prpa.trivia.model.exceptions.SpecificResourceNotFoundException;
 import com.prpa.trivia.service.QuestionService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
+import org.springframework.context.MessageSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
-import java.util.List;
-import java.util.UUID;
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
 
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
 
 @RestController
 public class QuestionController {
 
     public static final String API = "/api/v1";
     public static final String QUESTION_PATH = API + "/question";
+    public static final String RANDOM_QUESTION_PATH = QUESTION_PATH + "/random";
+    public static final String BULK_QUESTION_PATH = QUESTION_PATH + "/bulk";
+    public static final String EXPORT_QUESTION_PATH = QUESTION_PATH + "/export";
+    public static final String SIMILAR_QUESTION_PATH = QUESTION_PATH + "/similar";
+    public static final String COUNT_QUESTION_PATH = QUESTION_PATH + "/count";
+
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+    public static final String FIELDS_PARAM = "fields";
+
+    public static final int BULK_CHUNK_SIZE = 500;
+    public static final Duration EXPORT_TIMEOUT = Duration.ofHours(1);
 
     public static final Integer DEFAULT_OFFSET = 0;
     public static final Integer DEFAULT_LIMIT = 10;
 
     public static final Integer MAX_LIMIT = 100;
 
+    public static final double DEFAULT_SIMILARITY_THRESHOLD = 0.6;
+
     private final QuestionService questionService;
+    private final ObjectMapper objectMapper;
+    private final MessageSource messageSource;
+    private final JsonFragments jsonFragments;
 
-    public QuestionController(QuestionService questionService) {
+    public QuestionController(QuestionService questionService, ObjectMapper objectMapper, MessageSource messageSource,
+                              JsonFragments jsonFragments) {
         this.questionService = questionService;
+        this.objectMapper = objectMapper;
+        this.messageSource = messageSource;
+        this.jsonFragments = jsonFragments;
     }
 
-    @Operation(summary = "Busca uma questão por ID (UUID).", method = "GET")
+    @Operation(summary = "Busca uma questão por ID (UUID), opcionalmente apenas com os campos listados em 'fields'.", method = "GET")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Questão com id especificado encontrada."),
+            @ApiResponse(responseCode = "200", description = "Questão com id especificado encontrada.",
+                    content = @Content(schema = @Schema(implementation = QuestionView.class))),
+            @ApiResponse(responseCode = "304", description = "Questão não foi alterada desde a versão do header If-None-Match."),
             @ApiResponse(responseCode = "400", description = "Questão com id especificado não encontrada.")
     })
     @GetMapping(value = QUESTION_PATH + "/{id}", produces = APPLICATION_JSON_VALUE)
-    public ResponseEntity<Question> getQuestion(@PathVariable("id") UUID id) {
-        Question found = questionService.findById(id).orElseThrow(() ->
-                new SpecificResourceNotFoundException("id", String.valueOf(id)));
+    public ResponseEntity<byte[]> getQuestion(@PathVariable("id") UUID id,
+                                              @RequestParam(name = FIELDS_PARAM, required = false) List<String> fields) {
+        Set<QuestionField> selected = fieldsOf(fields);
+        JsonFragment found = QuestionField.isSparse(selected) ?
+                jsonFragments.question(questionService.findById(id, selected).orElseThrow(() ->
+                        new SpecificResourceNotFoundException("id", String.valueOf(id))), selected) :
+                jsonFragments.question(questionService.findById(id).orElseThrow(() ->
+                        new SpecificResourceNotFoundException("id", String.valueOf(id))));
 
-        return ResponseEntity.ok(found);
+        if (found.version() == null) return ResponseEntity.ok(found.json());
+        return ResponseEntity.ok()
+                .eTag(eTag(found.version(), selected))
+                .body(found.json());
     }
 
-    @Operation(summary = "Busca questão dentro do offset e limit.", method = "GET")
+    @Operation(summary = "Busca questão dentro do offset e limit ou a partir do cursor 'after', filtradas opcionalmente por categoria, dificuldade e tipo e apenas com os campos listados em 'fields'.", method = "GET")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Questões retornadas."),
+            @ApiResponse(responseCode = "200", description = "Questões retornadas, com o cursor da próxima página no header Link e, com filtros, o total no header X-Total-Count.",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = QuestionView.class)))),
+            @ApiResponse(responseCode = "400", description = "Cursor ou campo inválido.")
     })
     @GetMapping(value = QUESTION_PATH, produces = APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<Question>> getQuestion(
+    public ResponseEntity<byte[]> getQuestion(
             @RequestParam(defaultValue = "0") int offset,
-            @RequestParam(defaultValue = "10") int limit) {
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(name = PageCursor.AFTER_PARAM, required = false) String after,
+            @RequestParam(required = false) List<String> category,
+            @RequestParam(required = false) List<Difficulty> difficulty,
+            @RequestParam(required = false) List<Type> type,
+            @RequestParam(name = FIELDS_PARAM, required = false) List<String> fields) {
         offset = offset < 0 ? DEFAULT_OFFSET : offset;
         limit = limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        Set<QuestionField> selected = fieldsOf(fields);
 
-        List<Question> found = questionService.findAll(offset, limit);
+        if (isFiltered(category, difficulty, type)) {
+            return getFilteredQuestion(offset, limit, after, category, difficulty, type, selected);
+        }
+
+        List<QuestionView> found = after == null ?
+                questionService.findAll(offset, limit, selected) :
+                questionService.findAllAfter(PageCursor.decodeUUID(after), limit, selected);
+
+        if (found.size() < limit) return ResponseEntity.ok(jsonFragments.questions(found, selected));
+        UUID lastId = found.get(found.size() - 1).id();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.LINK, PageCursor.nextLink(QUESTION_PATH, lastId, limit, fieldsParams(selected)))
+                .body(jsonFragments.questions(found, selected));
+    }
+
+    private ResponseEntity<byte[]> getFilteredQuestion(int offset, int limit, String after, List<String> category,
+                                                       List<Difficulty> difficulty, List<Type> type,
+                                                       Set<QuestionField> selected) {
+        UUID afterId = after == null ? null : PageCursor.decodeUUID(after);
+        Optional<QuestionFilter> filter = questionService.filterOf(category, difficulty, type);
+        if (filter.isEmpty()) return ResponseEntity.ok().header(TOTAL_COUNT_HEADER, "0").body(jsonFragments.questions(List.of()));
+
+        List<QuestionView> found = questionService.findAllFiltered(filter.get(), offset, afterId, limit, selected);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header(TOTAL_COUNT_HEADER, String.valueOf(questionService.count(filter.get())));
+        if (found.size() < limit) return response.body(jsonFragments.questions(found, selected));
+
+        MultiValueMap<String, String> filterParams = fieldsParams(selected);
+        if (category != null) category.forEach(name -> filterParams.add("category", name));
+        if (difficulty != null) difficulty.forEach(value -> filterParams.add("difficulty", value.name()));
+        if (type != null) type.forEach(value -> filterParams.add("type", value.name()));
+        return response
+                .header(HttpHeaders.LINK, PageCursor.nextLink(QUESTION_PATH, found.get(found.size() - 1).id(), limit, filterParams))
+                .body(jsonFragments.questions(found, selected));
+    }
+
+    /**
+     * Without {@code fields} the whole question is returned, a sparse question always keeps its id.
+     */
+    private static Set<QuestionField> fieldsOf(List<String> fields) {
+        if (fields == null || fields.stream().allMatch(String::isBlank)) return QuestionField.ALL;
+
+        Set<QuestionField> selected = EnumSet.of(QuestionField.ID);
+        for (String field : fields) {
+            if (field.isBlank()) continue;
+            selected.add(QuestionField.ofProperty(field.trim())
+                    .orElseThrow(() -> new InvalidParameterException(FIELDS_PARAM, field)));
+        }
+        return selected;
+    }
+
+    private static MultiValueMap<String, String> fieldsParams(Set<QuestionField> selected) {
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        if (QuestionField.isSparse(selected)) {
+            params.add(FIELDS_PARAM, selected.stream().map(QuestionField::property).collect(Collectors.joining(",")));
+        }
+        return params;
+    }
+
+    @Operation(summary = "Conta as questões filtradas por categoria, dificuldade e tipo.", method = "GET")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Quantidade de questões que correspondem aos filtros."),
+    })
+    @GetMapping(value = COUNT_QUESTION_PATH, produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<Integer> getQuestionCount(
+            @RequestParam(required = false) List<String> category,
+            @RequestParam(required = false) List<Difficulty> difficulty,
+            @RequestParam(required = false) List<Type> type) {
+        return ResponseEntity.ok(questionService.filterOf(category, difficulty, type)
+                .map(questionService::count)
+                .orElse(0));
+    }
+
+    private boolean isFiltered(List<?>... filters) {
+        return Arrays.stream(filters).anyMatch(filter -> filter != null && !filter.isEmpty());
+    }
+
+    @Operation(summary = "Sorteia questões aleatórias, sem repetição, filtradas por categoria, dificuldade e tipo.", method = "GET")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Questões sorteadas."),
+    })
+    @GetMapping(value = RANDOM_QUESTION_PATH, produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<QuestionView>> getRandomQuestion(
+            @RequestParam(defaultValue = "10") int count,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) Difficulty difficulty,
+            @RequestParam(required = false) Type type) {
+        count = count <= 0 ? DEFAULT_LIMIT : Math.min(count, MAX_LIMIT);
+
+        List<QuestionView> found = questionService.findRandom(count, category, difficulty, type);
 
         return ResponseEntity.ok(found);
     }
 
+    @Operation(summary = "Busca questões com enunciado parecido com o informado, da mais para a menos parecida.", method = "GET")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Questões parecidas com a similaridade estimada (Jaccard)."),
+            @ApiResponse(responseCode = "400", description = "Limiar de similaridade fora do intervalo (0, 1].")
+    })
+    @GetMapping(value = SIMILAR_QUESTION_PATH, produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<SimilarQuestion>> getSimilarQuestion(
+            @RequestParam String statement,
+            @RequestParam(defaultValue = "" + DEFAULT_SIMILARITY_THRESHOLD) double threshold,
+            @RequestParam(defaultValue = "10") int limit) {
+        if (threshold <= 0 || threshold > 1) throw new InvalidParameterException("threshold");
+        limit = limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+
+        return ResponseEntity.ok(questionService.findSimilar(statement, threshold, limit));
+    }
+
+    @Operation(summary = "Exporta todas as questões em NDJSON, filtradas opcionalmente por categoria e dificuldade.", method = "GET")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Questões exportadas, uma por linha."),
+    })
+    @GetMapping(value = EXPORT_QUESTION_PATH, produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> getQuestionExport(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) Difficulty difficulty,
+            WebRequest webRequest) {
+        // A full export outlives the default async timeout, only this request gets the longer one
+        AsyncWebRequest asyncWebRequest = WebAsyncUtils.getAsyncManager(webRequest).getAsyncWebRequest();
+        if (asyncWebRequest != null) asyncWebRequest.setTimeout(EXPORT_TIMEOUT.toMillis());
+
+        StreamingResponseBody body = outputStream -> {
+            try (SequenceWriter writer = objectMapper.writer().withRootValueSeparator("\n").writeValues(outputStream)) {
+                questionService.export(category, difficulty, chunk -> {
+                    try {
+                        writer.writeAll(chunk);
+                        writer.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @Operation(summary = "Insere uma nova questão.", method = "POST")
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "Questão criada."),
-            @ApiResponse(responseCode = "409", description = "Questão com enunciado especificado já existe."),
+            @ApiResponse(responseCode = "409", description = "Questão com enunciado especificado já existe ou, com rejectNearDuplicates, é parecida com outra."),
             @ApiResponse(responseCode = "400", description = "Questão inválida.")
     })
     @PostMapping(value = QUESTION_PATH, consumes = APPLICATION_JSON_VALUE, produces = APPLICATION_JSON_VALUE)
-    public ResponseEntity<Question> postQuestion(@Valid @RequestBody QuestionDTO newQuestion) {
+    public ResponseEntity<Question> postQuestion(
+            @Valid @RequestBody QuestionDTO newQuestion,
+            @RequestParam(defaultValue = "false") boolean rejectNearDuplicates) {
         if (questionService.existsByStatement(newQuestion.getStatement())) {
             throw new ResourceAlreadyExistException("statement", newQuestion.getStatement());
         }
 
+        if (rejectNearDuplicates) {
+            List<SimilarQuestion> similar = questionService.findSimilar(
+                    newQuestion.getStatement(), DEFAULT_SIMILARITY_THRESHOLD, MAX_LIMIT);
+            if (!similar.isEmpty()) {
+                String ids = similar.stream().map(question -> question.id().toString()).collect(Collectors.joining(","));
+                throw new SimilarResourceExistsException("statement", ids);
+            }
+        }
+
         Question created = questionService.save(newQuestion);
         URI locationURI = UriComponentsBuilder.fromPath(QUESTION_PATH)
                 .path("/{id}")
@@ -84,25 +300,59 @@ public class QuestionController {
         return ResponseEntity.created(locationURI).body(created);
     }
 
-    @Operation(summary = "Altera uma questão por ID (UUID).", method = "PUT")
+    @Operation(summary = "Insere questões em lote a partir de um array JSON ou de NDJSON.", method = "POST")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Lote processado, com o resultado de cada item."),
+    })
+    @PostMapping(value = BULK_QUESTION_PATH, consumes = {APPLICATION_JSON_VALUE, APPLICATION_NDJSON_VALUE}, produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<QuestionImportReport> postQuestionBulk(InputStream body, Locale locale) throws IOException {
+        List<QuestionImportResult> results = new ArrayList<>();
+        List<QuestionDTO> chunk = new ArrayList<>(BULK_CHUNK_SIZE);
+
+        try (MappingIterator<QuestionDTO> items = objectMapper.readerFor(QuestionDTO.class).readValues(body)) {
+            while (items.hasNextValue()) {
+                chunk.add(items.nextValue());
+                if (chunk.size() == BULK_CHUNK_SIZE) {
+                    results.addAll(questionService.saveAll(chunk, results.size()));
+                    chunk.clear();
+                }
+            }
+        } catch (JsonProcessingException e) {
+            if (!chunk.isEmpty()) results.addAll(questionService.saveAll(chunk, results.size()));
+            chunk.clear();
+            FieldReason malformed = new FieldReason("body", "error.question.bulk.malformed.message");
+            results.add(QuestionImportResult.invalid(results.size(), List.of(malformed)));
+        }
+        if (!chunk.isEmpty()) results.addAll(questionService.saveAll(chunk, results.size()));
+
+        List<QuestionImportResult> items = results.stream()
+                .map(result -> new QuestionImportResult(result.index(), result.status(), result.id(),
+                        result.errors().stream()
+                                .map(error -> new FieldReason(error.field(),
+                                        messageSource.getMessage(error.reason(), null, error.reason(), locale)))
+                                .toList()))
+                .toList();
+        return ResponseEntity.ok(QuestionImportReport.of(items));
+    }
+
+    @Operation(summary = "Altera uma questão por ID (UUID), opcionalmente condicionada à versão do header If-Match.", method = "PUT")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Questão alterada com sucesso."),
-            @ApiResponse(responseCode = "409", description = "Questão com enunciado especificado já existe."),
-            @ApiResponse(responseCode = "400", description = "Questão inválida ou ID não encontrado.")
+            @ApiResponse(responseCode = "409", description = "Questão com enunciado especificado já existe ou a versão do header If-Match não é a atual."),
+            @ApiResponse(responseCode = "412", description = "Header If-Match com ETag fraca."),
+            @ApiResponse(responseCode = "400", description = "Questão inválida, header If-Match inválido ou ID não encontrado.")
     })
     @PutMapping(value = QUESTION_PATH + "/{id}", consumes = APPLICATION_JSON_VALUE, produces = APPLICATION_JSON_VALUE)
     public ResponseEntity<Question> postQuestion(
             @PathVariable("id") UUID id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody QuestionDTO newQuestion) {
 
-        if (questionService.existsByStatementAndDifferentId(id, newQuestion.getStatement()))
-            throw new ResourceAlreadyExistException("statement", newQuestion.getStatement());
-
-        if (!questionService.existsById(id))
-            throw new SpecificResourceNotFoundException("id", String.valueOf(id));
-
-        Question updated = questionService.update(id, newQuestion);
-        return ResponseEntity.ok(updated);
+        Question updated = questionService.update(id, newQuestion, versionOf(ifMatch));
+        if (updated.getVersion() == null) return ResponseEntity.ok(updated);
+        return ResponseEntity.ok()
+                .eTag(eTag(updated))
+                .body(updated);
     }
 
     @Operation(summary = "Remove uma questão por ID (UUID).", method = "DELETE")
@@ -119,4 +369,37 @@ public class QuestionController {
         questionService.delete(id);
         return ResponseEntity.noContent().build();
     }
+
+    public static String eTag(Question question) {
+        return eTag(question.getVersion());
+    }
+
+    public static String eTag(Long version) {
+        return "\"%d\"".formatted(version);
+    }
+
+    /**
+     * A sparse representation is a different body than the whole question, so its tag also carries the fields.
+     */
+    public static String eTag(Long version, Set<QuestionField> fields) {
+        if (!QuestionField.isSparse(fields)) return eTag(version);
+        String properties = fields.stream().sorted().map(QuestionField::property).collect(Collectors.joining(","));
+        return "\"%d;%s\"".formatted(version, properties);
+    }
+
+    /**
+     * If-Match uses the strong comparison, a weak tag never matches and fails the precondition.
+     */
+    private static Long versionOf(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) return null;
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) throw new PreconditionFailedException(HttpHeaders.IF_MATCH, tag);
+        if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\""))
+            throw new InvalidParameterException(HttpHeaders.IF_MATCH);
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new InvalidParameterException(HttpHeaders.IF_MATCH);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,94 @@
+package com.prpa.trivia.resources;
+
+import com.prpa.trivia.model.dto.QuizAnswerDTO;
+import com.prpa.trivia.model.dto.QuizAnswerResult;
+import com.prpa.trivia.model.dto.QuizQuestionDTO;
+import com.prpa.trivia.model.dto.QuizRequestDTO;
+import com.prpa.trivia.model.dto.QuizSessionDTO;
+import com.prpa.trivia.service.QuizService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.util.UUID;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+@RestController
+public class QuizController {
+
+    public static final String API = "/api/v1";
+    public static final String QUIZ_PATH = API + "/quiz";
+    public static final String QUIZ_ID_PATH = QUIZ_PATH + "/{id}";
+    public static final String QUIZ_QUESTION_PATH = QUIZ_ID_PATH + "/question";
+    public static final String QUIZ_ANSWER_PATH = QUIZ_ID_PATH + "/answer";
+
+    private final QuizService quizService;
+
+    @Autowired
+    public QuizController(QuizService quizService) {
+        this.quizService = quizService;
+    }
+
+    @Operation(summary = "Cria uma sessão de quiz sorteando questões por categoria, dificuldade e tipo.", method = "POST")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Sessão criada."),
+            @ApiResponse(responseCode = "400", description = "Requisição inválida ou nenhuma questão encontrada para os filtros.")
+    })
+    @PostMapping(value = QUIZ_PATH, consumes = APPLICATION_JSON_VALUE, produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<QuizSessionDTO> postQuiz(@Valid @RequestBody QuizRequestDTO request) {
+        QuizSessionDTO created = quizService.create(request);
+        URI locationURI = UriComponentsBuilder.fromPath(QUIZ_ID_PATH).build(created.id());
+        return ResponseEntity.created(locationURI).body(created);
+    }
+
+    @Operation(summary = "Busca o placar de uma sessão de quiz.", method = "GET")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Sessão encontrada."),
+            @ApiResponse(responseCode = "400", description = "Sessão não encontrada ou expirada.")
+    })
+    @GetMapping(value = QUIZ_ID_PATH, produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<QuizSessionDTO> getQuiz(@PathVariable("id") UUID id) {
+        return ResponseEntity.ok(quizService.find(id));
+    }
+
+    @Operation(summary = "Busca a questão atual da sessão, sem o índice da alternativa correta.", method = "GET")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Questão atual."),
+            @ApiResponse(responseCode = "400", description = "Sessão não encontrada ou expirada."),
+            @ApiResponse(responseCode = "409", description = "Sessão já finalizada.")
+    })
+    @GetMapping(value = QUIZ_QUESTION_PATH, produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<QuizQuestionDTO> getQuizQuestion(@PathVariable("id") UUID id) {
+        return ResponseEntity.ok(quizService.currentQuestion(id));
+    }
+
+    @Operation(summary = "Responde a questão atual da sessão.", method = "POST")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Resposta corrigida, com o placar atualizado."),
+            @ApiResponse(responseCode = "400", description = "Resposta inválida, posição diferente da atual ou sessão não encontrada."),
+            @ApiResponse(responseCode = "409", description = "Sessão já finalizada.")
+    })
+    @PostMapping(value = QUIZ_ANSWER_PATH, consumes = APPLICATION_JSON_VALUE, produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<QuizAnswerResult> postQuizAnswer(
+            @PathVariable("id") UUID id,
+            @Valid @RequestBody QuizAnswerDTO answer) {
+        return ResponseEntity.ok(quizService.answer(id, answer.getPosition(), answer.getAlternative()));
+    }
+
+    @Operation(summary = "Encerra uma sessão de quiz.", method = "DELETE")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "Sessão encerrada."),
+    })
+    @DeleteMapping(QUIZ_ID_PATH)
+    public ResponseEntity<Void> deleteQuiz(@PathVariable("id") UUID id) {
+        quizService.delete(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,64 @@
+package com.prpa.trivia.resources;
+
+import com.prpa.trivia.model.dto.CategoryStatsDTO;
+import com.prpa.trivia.model.dto.QuestionStatsDTO;
+import com.prpa.trivia.model.exceptions.SpecificResourceNotFoundException;
+import com.prpa.trivia.service.CategoryService;
+import com.prpa.trivia.service.QuestionService;
+import com.prpa.trivia.service.QuestionStatsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+@RestController
+public class StatsController {
+
+    public static final String API = "/api/v1";
+    public static final String QUESTION_STATS_PATH = API + "/question/{id}/stats";
+    public static final String CATEGORY_STATS_PATH = API + "/categories/{id}/stats";
+
+    private final QuestionStatsService questionStatsService;
+    private final QuestionService questionService;
+    private final CategoryService categoryService;
+
+    @Autowired
+    public StatsController(QuestionStatsService questionStatsService, QuestionService questionService,
+                           CategoryService categoryService) {
+        this.questionStatsService = questionStatsService;
+        this.questionService = questionService;
+        this.categoryService = categoryService;
+    }
+
+    @Operation(summary = "Busca quantas vezes uma questão foi servida e respondida, a taxa de acerto e as escolhas por alternativa.", method = "GET")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Estatísticas da questão, atualizadas a cada gravação periódica."),
+            @ApiResponse(responseCode = "400", description = "Questão com id especificado não encontrada.")
+    })
+    @GetMapping(value = QUESTION_STATS_PATH, produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<QuestionStatsDTO> getQuestionStats(@PathVariable("id") UUID id) {
+        if (!questionService.existsById(id)) throw new SpecificResourceNotFoundException("id", String.valueOf(id));
+
+        return ResponseEntity.ok(questionStatsService.findByQuestion(id));
+    }
+
+    @Operation(summary = "Busca a taxa de acerto somada das questões de uma categoria.", method = "GET")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Estatísticas da categoria, atualizadas a cada gravação periódica."),
+            @ApiResponse(responseCode = "400", description = "Categoria com id especificado não encontrada.")
+    })
+    @GetMapping(value = CATEGORY_STATS_PATH, produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<CategoryStatsDTO> getCategoryStats(@PathVariable("id") Long id) {
+        if (!categoryService.existsById(id)) throw new SpecificResourceNotFoundException("id", String.valueOf(id));
+
+        return ResponseEntity.ok(questionStatsService.findByCategory(id));
+    }
+}
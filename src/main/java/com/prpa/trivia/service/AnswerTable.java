@@ -0,0 +1,216 @@
+package com.prpa.trivia.service;
+
+import com.prpa.trivia.model.dto.QuestionAnswerEntry;
+import com.prpa.trivia.model.trivia.Question;
+import com.prpa.trivia.repository.QuestionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.locks.StampedLock;
+import java.util.stream.Stream;
+
+/**
+ * Question id to correct alternative index, stored in parallel primitive arrays with linear probing so a lookup
+ * neither allocates nor boxes. Readers run under an optimistic {@link StampedLock} stamp and only fall back to
+ * the read lock when a writer got in the way; each generation of the arrays is published as one {@link Slots}
+ * so a reader never mixes arrays of different sizes.
+ */
+@Component
+public class AnswerTable implements QuestionIndex {
+
+    public static final int ABSENT = -1;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final QuestionRepository questionRepository;
+    private final StampedLock lock = new StampedLock();
+
+    private volatile Slots slots = new Slots(INITIAL_CAPACITY);
+    private int size;
+
+    @Autowired
+    public AnswerTable(QuestionRepository questionRepository) {
+        this.questionRepository = questionRepository;
+    }
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        try (Stream<QuestionAnswerEntry> entries = questionRepository.streamAnswers()) {
+            long stamp = lock.writeLock();
+            try {
+                slots = new Slots(INITIAL_CAPACITY);
+                size = 0;
+                entries.forEach(entry -> putUnlocked(entry.id().getMostSignificantBits(),
+                        entry.id().getLeastSignificantBits(), entry.correctIndex()));
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+    }
+
+    @Override
+    public void put(Question question) {
+        UUID id = question.getId();
+        long stamp = lock.writeLock();
+        try {
+            putUnlocked(id.getMostSignificantBits(), id.getLeastSignificantBits(), question.getCorrectIndex());
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void remove(UUID id) {
+        long stamp = lock.writeLock();
+        try {
+            removeUnlocked(id.getMostSignificantBits(), id.getLeastSignificantBits());
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int correctIndex(UUID id) {
+        long[] msbs = {id.getMostSignificantBits()};
+        long[] lsbs = {id.getLeastSignificantBits()};
+        byte[] found = new byte[1];
+        correctIndexes(msbs, lsbs, found);
+        return found[0];
+    }
+
+    /**
+     * Writes the correct index of each id into {@code out}, or {@link #ABSENT} when the id is unknown. The whole
+     * batch is read under a single stamp.
+     */
+    public void correctIndexes(long[] msbs, long[] lsbs, byte[] out) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            lookup(slots, msbs, lsbs, out);
+            if (lock.validate(stamp)) return;
+        }
+
+        stamp = lock.readLock();
+        try {
+            lookup(slots, msbs, lsbs, out);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private static void lookup(Slots slots, long[] msbs, long[] lsbs, byte[] out) {
+        int mask = slots.values.length - 1;
+        for (int i = 0; i < msbs.length; i++) {
+            byte found = ABSENT;
+            // Bounded by the capacity so a reader racing a writer can never spin, validation discards the result.
+            for (int slot = hash(msbs[i], lsbs[i]) & mask, probes = 0; probes <= mask; slot = (slot + 1) & mask, probes++) {
+                byte value = slots.values[slot];
+                if (value == ABSENT) break;
+                if (slots.msbs[slot] == msbs[i] && slots.lsbs[slot] == lsbs[i]) {
+                    found = value;
+                    break;
+                }
+            }
+            out[i] = found;
+        }
+    }
+
+    private void putUnlocked(long msb, long lsb, Integer correctIndex) {
+        // Indexes that do not fit a byte cannot be scored from the table and are reported as unknown.
+        if (correctIndex == null || correctIndex < 0 || correctIndex > Byte.MAX_VALUE) {
+            removeUnlocked(msb, lsb);
+            return;
+        }
+        if ((size + 1) * 2 > slots.values.length) slots = resize(slots, slots.values.length * 2);
+
+        Slots current = slots;
+        int mask = current.values.length - 1;
+        int slot = hash(msb, lsb) & mask;
+        while (current.values[slot] != ABSENT) {
+            if (current.msbs[slot] == msb && current.lsbs[slot] == lsb) {
+                current.values[slot] = (byte) (int) correctIndex;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        current.msbs[slot] = msb;
+        current.lsbs[slot] = lsb;
+        current.values[slot] = (byte) (int) correctIndex;
+        size++;
+    }
+
+    private void removeUnlocked(long msb, long lsb) {
+        Slots current = slots;
+        int mask = current.values.length - 1;
+        int slot = hash(msb, lsb) & mask;
+        while (current.values[slot] != ABSENT) {
+            if (current.msbs[slot] == msb && current.lsbs[slot] == lsb) break;
+            slot = (slot + 1) & mask;
+        }
+        if (current.values[slot] == ABSENT) return;
+
+        // Backward shift deletion: pull later entries of the probe chain into the hole so lookups never need
+        // tombstones.
+        int hole = slot;
+        for (int next = (hole + 1) & mask; current.values[next] != ABSENT; next = (next + 1) & mask) {
+            int home = hash(current.msbs[next], current.lsbs[next]) & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                current.msbs[hole] = current.msbs[next];
+                current.lsbs[hole] = current.lsbs[next];
+                current.values[hole] = current.values[next];
+                hole = next;
+            }
+        }
+        current.values[hole] = ABSENT;
+        size--;
+    }
+
+    private static Slots resize(Slots old, int capacity) {
+        Slots resized = new Slots(capacity);
+        int mask = capacity - 1;
+        for (int i = 0; i < old.values.length; i++) {
+            if (old.values[i] == ABSENT) continue;
+            int slot = hash(old.msbs[i], old.lsbs[i]) & mask;
+            while (resized.values[slot] != ABSENT) slot = (slot + 1) & mask;
+            resized.msbs[slot] = old.msbs[i];
+            resized.lsbs[slot] = old.lsbs[i];
+            resized.values[slot] = old.values[i];
+        }
+        return resized;
+    }
+
+    private static int hash(long msb, long lsb) {
+        long h = msb * 0x9E3779B97F4A7C15L ^ lsb;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    private static final class Slots {
+
+        private final long[] msbs;
+        private final long[] lsbs;
+        private final byte[] values;
+
+        private Slots(int capacity) {
+            msbs = new long[capacity];
+            lsbs = new long[capacity];
+            values = new byte[capacity];
+            Arrays.fill(values, (byte) ABSENT);
+        }
+    }
+}
@@ -1,34 +1,69 @@
 package com.prpa.trivia.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.prpa.trivia.model.trivia.Category;
 import com.prpa.trivia.model.dto.CategoryDTO;
+import com.prpa.trivia.model.dto.CategoryView;
+import com.prpa.trivia.model.dto.JsonFragment;
+import com.prpa.trivia.model.dto.QuestionView;
 import com.prpa.trivia.model.exceptions.SpecificResourceNotFoundException;
 import com.prpa.trivia.repository.CategoryRepository;
 import com.prpa.trivia.resources.OffsetPageRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 @Service
 public class CategoryService {
 
+    private static final Sort ID_ORDER = Sort.by("id");
+
     private final CategoryRepository categoryRepository;
+    private final Cache<String, Category> categoryNameCache;
+    private final Cache<UUID, QuestionView> questionCache;
+    private final Cache<UUID, JsonFragment> questionJsonCache;
+    private final Cache<Long, JsonFragment> categoryJsonCache;
+    private final TransactionTemplate insertTransaction;
+    private final AtomicLong generation = new AtomicLong();
 
     @Autowired
-    public CategoryService(CategoryRepository categoryRepository) {
+    public CategoryService(CategoryRepository categoryRepository, Cache<String, Category> categoryNameCache,
+                           Cache<UUID, QuestionView> questionCache, Cache<UUID, JsonFragment> questionJsonCache,
+                           Cache<Long, JsonFragment> categoryJsonCache, PlatformTransactionManager transactionManager) {
         this.categoryRepository = categoryRepository;
+        this.categoryNameCache = categoryNameCache;
+        this.questionCache = questionCache;
+        this.questionJsonCache = questionJsonCache;
+        this.categoryJsonCache = categoryJsonCache;
+        this.insertTransaction = new TransactionTemplate(transactionManager);
+        this.insertTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     }
 
-    public List<Category> findAll(int offset, int limit) {
+    @Transactional(readOnly = true)
+    public List<CategoryView> findAll(int offset, int limit) {
         if (offset < 0) throw new IllegalArgumentException("Offset must be greater than 1.");
         if (limit < 1) throw new IllegalArgumentException("Limit must be greater than 1.");
 
-        Pageable page = OffsetPageRequest.of(offset, limit);
-        return categoryRepository.findAll(page).toList();
+        Pageable page = OffsetPageRequest.of(offset, limit, ID_ORDER);
+        return categoryRepository.findViewBy(page);
+    }
+
+    @Transactional(readOnly = true)
+    public List<CategoryView> findAllAfter(Long after, int limit) {
+        if (limit < 1) throw new IllegalArgumentException("Limit must be greater than 1.");
+
+        Pageable page = OffsetPageRequest.of(0, limit, ID_ORDER);
+        return categoryRepository.findViewByIdGreaterThan(after, page);
     }
 
     public Category save(CategoryDTO category) {
@@ -39,15 +74,31 @@ public class CategoryService {
         return categoryRepository.existsByName(categoryName);
     }
 
+    public Optional<Category> findByName(String name) {
+        Category cached = categoryNameCache.getIfPresent(name);
+        if (cached != null) return Optional.of(cached);
+        Optional<Category> found = categoryRepository.findByName(name);
+        found.ifPresent(category -> categoryNameCache.put(category.getName(), category));
+        return found;
+    }
+
     public Optional<Category> findById(Long id) {
         return categoryRepository.findById(id);
     }
 
+    @Transactional(readOnly = true)
+    public Optional<CategoryView> findViewById(Long id) {
+        return categoryRepository.findViewById(id);
+    }
+
+    @Transactional
     public Category update(Long id, CategoryDTO newCategory) {
         Category found = findById(id).orElseThrow(() -> new SpecificResourceNotFoundException("id", String.valueOf(id)));
         if (found.getName().equals(newCategory.getName())) return found;
         found.setName(newCategory.getName());
-        return categoryRepository.save(found);
+        Category updated = categoryRepository.save(found);
+        AfterCommit.run(() -> invalidate(id));
+        return updated;
     }
 
     public boolean existsById(Long id) {
@@ -56,15 +107,103 @@ public class CategoryService {
 
     public void delete(Long id) {
         categoryRepository.deleteById(id);
+        AfterCommit.run(() -> invalidate(id));
+    }
+
+    /**
+     * Bumped once a category rename or delete commits. A view read before the bump may hold the old category, so
+     * caches compare the generation they read at against the current one before keeping or serving an entry.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Runs once the rename or delete is committed, so a concurrent reader cannot cache the old name again from a row
+     * that is still visible to it. Questions embed their categories, so every cached question and fragment may hold
+     * the old category.
+     */
+    private void invalidate(Long id) {
+        generation.incrementAndGet();
+        categoryNameCache.asMap().values().removeIf(category -> id.equals(category.getId()));
+        categoryJsonCache.invalidate(id);
+        questionCache.invalidateAll();
+        questionJsonCache.invalidateAll();
+    }
+
+    public Map<String, Category> resolveAll(Collection<String> names) {
+        Set<String> normalized = new LinkedHashSet<>();
+        names.forEach(name -> normalized.add(normalize(name)));
+        if (normalized.isEmpty()) return Map.of();
+
+        Map<String, Category> resolved = new HashMap<>(categoryNameCache.getAllPresent(normalized));
+        Set<String> missing = new LinkedHashSet<>(normalized);
+        missing.removeAll(resolved.keySet());
+        if (missing.isEmpty()) return resolved;
+
+        categoryRepository.findAllByNameIn(missing).forEach(category -> resolved.put(category.getName(), category));
+        missing.removeAll(resolved.keySet());
+        if (!missing.isEmpty()) resolved.putAll(insertAll(missing));
+
+        categoryNameCache.putAll(resolved);
+        return resolved;
+    }
+
+    public List<Category> resolveExisting(Collection<String> names) {
+        Set<String> normalized = new LinkedHashSet<>();
+        names.forEach(name -> normalized.add(normalize(name)));
+
+        List<Category> resolved = new ArrayList<>(categoryNameCache.getAllPresent(normalized).values());
+        resolved.forEach(category -> normalized.remove(category.getName()));
+        if (normalized.isEmpty()) return resolved;
+
+        List<Category> found = categoryRepository.findAllByNameIn(normalized);
+        found.forEach(category -> categoryNameCache.put(category.getName(), category));
+        resolved.addAll(found);
+        return resolved;
     }
 
     public List<Category> findOrSaveAll(List<CategoryDTO> category) {
         if (category == null) return List.of();
-        List<Category> categories = new ArrayList<>();
-        for (CategoryDTO dto : category) {
-            dto.setName(dto.getName() != null ? dto.getName().trim() : "");
-            categories.add(categoryRepository.findByName(dto.getName()).orElseGet(() -> save(dto)));
+        List<String> names = category.stream()
+                .map(dto -> normalize(dto.getName()))
+                .toList();
+        Map<String, Category> resolved = resolveAll(names);
+        return names.stream()
+                .distinct()
+                .map(resolved::get)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /**
+     * Inserts in new transactions so a name lost to a concurrent writer does not roll back the caller. A caller already
+     * holding a transaction suspends it and takes a second pooled connection for the insert, so the hot paths resolve
+     * their categories before opening one.
+     */
+    private Map<String, Category> insertAll(Set<String> names) {
+        Map<String, Category> inserted = new HashMap<>();
+        try {
+            insertTransaction.executeWithoutResult(status -> categoryRepository
+                    .saveAll(names.stream().map(name -> new Category(null, name)).toList())
+                    .forEach(category -> inserted.put(category.getName(), category)));
+            return inserted;
+        } catch (DataIntegrityViolationException e) {
+            inserted.clear();
         }
-        return categories;
+
+        // Another writer inserted some of these names concurrently, the unique constraint on the name rejected
+        // the whole batch. Insert the remaining ones one by one and read back the ones that lost the race.
+        for (String name : names) {
+            try {
+                inserted.put(name, insertTransaction.execute(status -> categoryRepository.save(new Category(null, name))));
+            } catch (DataIntegrityViolationException e) {
+                categoryRepository.findByName(name).ifPresent(category -> inserted.put(name, category));
+            }
+        }
+        return inserted;
+    }
+
+    private String normalize(String name) {
+        return name != null ? name.trim() : "";
     }
 }
@@ -0,0 +1,152 @@
+package com.prpa.trivia.service;
+
+import com.prpa.trivia.model.dto.LeaderboardEntryDTO;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * One board: a concurrent skip list of (score, player) ordered from the highest score for top-K reads, a
+ * player to score map for point updates and a Fenwick tree of player counts per score bucket for ranks. The rank of
+ * a score is the number of players with a higher score plus one, so ties share a rank. Ranks are exact once updates
+ * settle; a rank read while other players are being moved may count some of them at their old or new score.
+ */
+public class Leaderboard {
+
+    private static final Comparator<Entry> ORDER = Comparator.comparingLong(Entry::score).reversed()
+            .thenComparing(Entry::player);
+
+    private final ConcurrentSkipListSet<Entry> ranking = new ConcurrentSkipListSet<>(ORDER);
+    private final ConcurrentHashMap<String, Long> scores = new ConcurrentHashMap<>();
+    private final ScoreCounts counts = new ScoreCounts();
+    private final Set<String> changed = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Adds {@code points} to the player score and returns the new score. Updates of the same player are
+     * serialized by the map, updates of different players do not block each other.
+     */
+    public long add(String player, long points) {
+        if (points < 0) throw new IllegalArgumentException("Points must not be negative.");
+        long updated = scores.compute(player, (key, old) -> move(key, old, (old == null ? 0 : old) + points));
+        changed.add(player);
+        return updated;
+    }
+
+    /**
+     * Sets the player score without marking the board as changed, used to restore a snapshot.
+     */
+    public void restore(String player, long score) {
+        scores.compute(player, (key, old) -> move(key, old, score));
+    }
+
+    public Optional<LeaderboardEntryDTO> find(String player) {
+        Long score = scores.get(player);
+        if (score == null) return Optional.empty();
+        return Optional.of(new LeaderboardEntryDTO(counts.countAbove(score) + 1, player, score));
+    }
+
+    public List<LeaderboardEntryDTO> top(long offset, int limit) {
+        List<LeaderboardEntryDTO> page = new ArrayList<>(limit);
+        Iterator<Entry> iterator = ranking.iterator();
+        for (long skipped = 0; skipped < offset && iterator.hasNext(); skipped++) iterator.next();
+        while (iterator.hasNext() && page.size() < limit) {
+            Entry entry = iterator.next();
+            page.add(new LeaderboardEntryDTO(counts.countAbove(entry.score()) + 1, entry.player(), entry.score()));
+        }
+        return page;
+    }
+
+    public Map<String, Long> scores() {
+        return Collections.unmodifiableMap(scores);
+    }
+
+    public int size() {
+        return scores.size();
+    }
+
+    /**
+     * Removes and returns the players whose score changed since the previous call, for snapshots.
+     */
+    public Set<String> drainChanged() {
+        Set<String> drained = new HashSet<>();
+        for (Iterator<String> iterator = changed.iterator(); iterator.hasNext(); ) {
+            drained.add(iterator.next());
+            iterator.remove();
+        }
+        return drained;
+    }
+
+    public boolean hasChanges() {
+        return !changed.isEmpty();
+    }
+
+    public void markChanged(Collection<String> players) {
+        changed.addAll(players);
+    }
+
+    private long move(String player, Long old, long score) {
+        if (old != null) {
+            ranking.remove(new Entry(old, player));
+            counts.add(old, -1);
+        }
+        ranking.add(new Entry(score, player));
+        counts.add(score, 1);
+        return score;
+    }
+
+    private record Entry(long score, String player) {
+    }
+
+    /**
+     * Player counts per score. Scores map to a fixed set of log-linear buckets, exact below {@value #LINEAR} and
+     * {@value #SUB_BUCKETS} per power of two above, so the Fenwick tree over the buckets never grows however high the
+     * scores get. Only the bucket of the queried score is refined with the counts of its distinct scores. Nothing is
+     * locked: the tree nodes are atomic and the distinct counts are merged atomically per score, so a query racing an
+     * update may see part of it.
+     */
+    private static class ScoreCounts {
+
+        private static final int SUB_BITS = 5;
+        private static final int SUB_BUCKETS = 1 << SUB_BITS;
+        private static final long LINEAR = 2L * SUB_BUCKETS;
+        private static final int BUCKETS = bucketOf(Long.MAX_VALUE) + 1;
+
+        private final AtomicLongArray tree = new AtomicLongArray(BUCKETS + 1);
+        private final ConcurrentSkipListMap<Long, Long> distinct = new ConcurrentSkipListMap<>();
+
+        void add(long score, long delta) {
+            if (score < 0) throw new IllegalArgumentException("Score must not be negative.");
+            distinct.merge(score, delta, (count, change) -> count + change == 0 ? null : count + change);
+            for (int i = bucketOf(score) + 1; i <= BUCKETS; i += i & -i) tree.addAndGet(i, delta);
+        }
+
+        long countAbove(long score) {
+            int bucket = bucketOf(score);
+            long above = countUpTo(BUCKETS) - countUpTo(bucket + 1);
+            for (long count : distinct.subMap(score, false, upperBoundOf(bucket), true).values()) above += count;
+            return Math.max(0, above);
+        }
+
+        private long countUpTo(int buckets) {
+            long count = 0;
+            for (int i = buckets; i > 0; i -= i & -i) count += tree.get(i);
+            return count;
+        }
+
+        private static int bucketOf(long score) {
+            if (score < LINEAR) return (int) score;
+            int shift = 63 - Long.numberOfLeadingZeros(score) - SUB_BITS;
+            return (int) (shift * SUB_BUCKETS + (score >>> shift));
+        }
+
+        private static long upperBoundOf(int bucket) {
+            if (bucket < LINEAR) return bucket;
+            int shift = bucket / SUB_BUCKETS - 1;
+            long mantissa = bucket % SUB_BUCKETS + SUB_BUCKETS;
+            return ((mantissa + 1) << shift) - 1;
+        }
+    }
+}
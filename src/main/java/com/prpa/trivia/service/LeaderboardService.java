@@ -0,0 +1,170 @@
+package com.prpa.trivia.service;
+
+import com.prpa.trivia.model.dto.LeaderboardEntryDTO;
+import com.prpa.trivia.model.quiz.LeaderboardSnapshot;
+import com.prpa.trivia.model.quiz.LeaderboardWindow;
+import com.prpa.trivia.model.trivia.Difficulty;
+import com.prpa.trivia.repository.LeaderboardSnapshotRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps the global and per category leaderboards of every window in memory and updates them on each correct quiz
+ * answer. Boards of a window are keyed by the first day of their period, so a new day or week starts empty boards
+ * while the previous ones are snapshotted one last time and dropped. Scores are snapshotted to the database on a
+ * schedule and on shutdown, and the boards of the current periods are restored from it on startup.
+ */
+@Slf4j
+@Service
+public class LeaderboardService {
+
+    public static final String GLOBAL_SCOPE = "";
+
+    private static final String UPDATE_SCORE = "update Leaderboard_Snapshot set score = ? " +
+            "where scope = ? and board_window = ? and period_start = ? and player = ?";
+    private static final String INSERT_SCORE = "insert into Leaderboard_Snapshot " +
+            "(score, scope, board_window, period_start, player) values (?, ?, ?, ?, ?)";
+
+    private final LeaderboardSnapshotRepository leaderboardSnapshotRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate snapshotTransaction;
+    private final Clock clock;
+
+    private final ConcurrentMap<BoardKey, Leaderboard> boards = new ConcurrentHashMap<>();
+
+    @Autowired
+    public LeaderboardService(LeaderboardSnapshotRepository leaderboardSnapshotRepository, JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager) {
+        this(leaderboardSnapshotRepository, jdbcTemplate, transactionManager, Clock.systemUTC());
+    }
+
+    public LeaderboardService(LeaderboardSnapshotRepository leaderboardSnapshotRepository, JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager, Clock clock) {
+        this.leaderboardSnapshotRepository = leaderboardSnapshotRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+    }
+
+    public static long pointsOf(Difficulty difficulty) {
+        if (difficulty == null) return 1;
+        return switch (difficulty) {
+            case EASY -> 1;
+            case MEDIUM -> 2;
+            case HARD -> 3;
+        };
+    }
+
+    /**
+     * Adds {@code points} to the player on the global board and on the board of each category, in every window.
+     */
+    public void record(String player, Collection<String> categories, long points) {
+        LocalDate today = LocalDate.now(clock);
+        for (LeaderboardWindow window : LeaderboardWindow.values()) {
+            LocalDate periodStart = window.periodStart(today);
+            boardOf(new BoardKey(GLOBAL_SCOPE, window, periodStart)).add(player, points);
+            for (String category : categories) {
+                boardOf(new BoardKey(category, window, periodStart)).add(player, points);
+            }
+        }
+    }
+
+    public List<LeaderboardEntryDTO> top(LeaderboardWindow window, String category, Pageable page) {
+        Leaderboard board = boards.get(currentKey(window, category));
+        if (board == null) return List.of();
+        return board.top(page.getOffset(), page.getPageSize());
+    }
+
+    public Optional<LeaderboardEntryDTO> rank(LeaderboardWindow window, String category, String player) {
+        Leaderboard board = boards.get(currentKey(window, category));
+        if (board == null) return Optional.empty();
+        return board.find(player);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        LocalDate today = LocalDate.now(clock);
+        for (LeaderboardWindow window : LeaderboardWindow.values()) {
+            LocalDate periodStart = window.periodStart(today);
+            for (LeaderboardSnapshot snapshot : leaderboardSnapshotRepository.findByBoardWindowAndPeriodStart(window, periodStart)) {
+                boardOf(new BoardKey(snapshot.getScope(), window, periodStart))
+                        .restore(snapshot.getPlayer(), snapshot.getScore());
+            }
+        }
+    }
+
+    /**
+     * Writes the scores that changed since the previous snapshot, then drops the boards of finished periods. When
+     * the write fails the players are marked as changed again and written by the next snapshot.
+     */
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${application.leaderboard.snapshot-interval:PT1M}")
+    public synchronized void snapshot() {
+        Map<BoardKey, Set<String>> changed = new HashMap<>();
+        List<Object[]> scores = new ArrayList<>();
+        boards.forEach((key, board) -> {
+            Set<String> players = board.drainChanged();
+            if (players.isEmpty()) return;
+            changed.put(key, players);
+            Map<String, Long> boardScores = board.scores();
+            for (String player : players) {
+                scores.add(new Object[]{boardScores.get(player), key.scope(), key.window().name(),
+                        Date.valueOf(key.periodStart()), player});
+            }
+        });
+
+        if (!scores.isEmpty()) {
+            try {
+                snapshotTransaction.executeWithoutResult(status -> upsert(scores));
+            } catch (DataAccessException e) {
+                changed.forEach((key, players) -> boards.get(key).markChanged(players));
+                log.warn("Could not snapshot {} leaderboard scores, they are kept for the next snapshot.",
+                        scores.size(), e);
+                return;
+            }
+        }
+
+        LocalDate today = LocalDate.now(clock);
+        boards.keySet().removeIf(key -> !key.periodStart().equals(key.window().periodStart(today))
+                && !boards.get(key).hasChanges());
+    }
+
+    private void upsert(List<Object[]> scores) {
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_SCORE, scores);
+
+        List<Object[]> missing = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) missing.add(scores.get(i));
+        }
+        if (!missing.isEmpty()) jdbcTemplate.batchUpdate(INSERT_SCORE, missing);
+    }
+
+    private BoardKey currentKey(LeaderboardWindow window, String category) {
+        String scope = category == null ? GLOBAL_SCOPE : category;
+        return new BoardKey(scope, window, window.periodStart(LocalDate.now(clock)));
+    }
+
+    private Leaderboard boardOf(BoardKey key) {
+        return boards.computeIfAbsent(key, k -> new Leaderboard());
+    }
+
+    private record BoardKey(String scope, LeaderboardWindow window, LocalDate periodStart) {
+    }
+}
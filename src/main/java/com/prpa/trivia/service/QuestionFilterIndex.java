@@ -0,0 +1,208 @@
+package com.prpa.trivia.service;
+
+import com.prpa.trivia.model.dto.QuestionFilter;
+import com.prpa.trivia.model.dto.QuestionIndexEntry;
+import com.prpa.trivia.model.trivia.Category;
+import com.prpa.trivia.model.trivia.Difficulty;
+import com.prpa.trivia.model.trivia.Question;
+import com.prpa.trivia.model.trivia.Type;
+import com.prpa.trivia.repository.QuestionRepository;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Roaring bitmaps of question positions per category id, difficulty and type. Every indexed question owns a
+ * position, assigned in id order on rebuild and appended afterwards. Positions are private to this process, so the
+ * filtered listing pages by the id of the last question seen and resolves it back to a position. A removed question
+ * keeps its position, so a cursor pointing at it still resumes where it stopped, until removed positions outnumber
+ * the live ones and the index is compacted; compaction keeps the order of the live positions.
+ */
+@Component
+public class QuestionFilterIndex implements QuestionIndex {
+
+    private static final int MIN_COMPACTED_POSITIONS = 1024;
+
+    private final QuestionRepository questionRepository;
+
+    private final List<UUID> ids = new ArrayList<>();
+    private final Map<UUID, Integer> positions = new HashMap<>();
+    private final RoaringBitmap live = new RoaringBitmap();
+    private final Map<Long, RoaringBitmap> byCategory = new HashMap<>();
+    private final Map<Difficulty, RoaringBitmap> byDifficulty = new EnumMap<>(Difficulty.class);
+    private final Map<Type, RoaringBitmap> byType = new EnumMap<>(Type.class);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Autowired
+    public QuestionFilterIndex(QuestionRepository questionRepository) {
+        this.questionRepository = questionRepository;
+    }
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        try (Stream<QuestionIndexEntry> entries = questionRepository.streamIndexEntries()) {
+            lock.writeLock().lock();
+            try {
+                ids.clear();
+                positions.clear();
+                live.clear();
+                byCategory.clear();
+                byDifficulty.clear();
+                byType.clear();
+                entries.forEach(entry -> {
+                    int position = positionOf(entry.id());
+                    live.add(position);
+                    add(position, entry.categoryId(), entry.difficulty(), entry.type());
+                });
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    @Override
+    public void put(Question question) {
+        List<Category> categories = question.getCategory() == null ? List.of() : question.getCategory();
+        lock.writeLock().lock();
+        try {
+            int position = positionOf(question.getId());
+            clear(position);
+            live.add(position);
+            if (categories.isEmpty()) add(position, null, question.getDifficulty(), question.getType());
+            for (Category category : categories) {
+                add(position, category.getId(), question.getDifficulty(), question.getType());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            Integer position = positions.get(id);
+            if (position == null) return;
+            clear(position);
+            int removed = ids.size() - live.getCardinality();
+            if (removed >= MIN_COMPACTED_POSITIONS && removed > ids.size() / 2) compact();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int count(QuestionFilter filter) {
+        lock.readLock().lock();
+        try {
+            return matching(filter).getCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Up to {@code limit} ids matching the filter in position order, skipping {@code offset} matches or, when
+     * {@code after} is set, starting right after the position of that id. Empty when {@code after} was never indexed.
+     */
+    public Optional<List<UUID>> find(QuestionFilter filter, int offset, UUID after, int limit) {
+        if (offset < 0) throw new IllegalArgumentException("Offset must be greater than 1.");
+        if (limit < 1) throw new IllegalArgumentException("Limit must be greater than 1.");
+
+        lock.readLock().lock();
+        try {
+            RoaringBitmap matching = matching(filter);
+            PeekableIntIterator iterator = matching.getIntIterator();
+            if (after != null) {
+                Integer afterPosition = positions.get(after);
+                if (afterPosition == null) return Optional.empty();
+                iterator.advanceIfNeeded(afterPosition + 1);
+            } else if (offset > 0) {
+                if (offset >= matching.getCardinality()) return Optional.of(List.of());
+                iterator.advanceIfNeeded(matching.select(offset));
+            }
+
+            List<UUID> found = new ArrayList<>(limit);
+            while (iterator.hasNext() && found.size() < limit) {
+                found.add(ids.get(iterator.next()));
+            }
+            return Optional.of(found);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private RoaringBitmap matching(QuestionFilter filter) {
+        RoaringBitmap result = live.clone();
+        if (!filter.categoryIds().isEmpty()) result.and(union(byCategory, filter.categoryIds()));
+        if (!filter.difficulties().isEmpty()) result.and(union(byDifficulty, filter.difficulties()));
+        if (!filter.types().isEmpty()) result.and(union(byType, filter.types()));
+        return result;
+    }
+
+    private <K> RoaringBitmap union(Map<K, RoaringBitmap> bitmaps, Set<K> keys) {
+        return RoaringBitmap.or(keys.stream()
+                .map(bitmaps::get)
+                .filter(Objects::nonNull)
+                .iterator());
+    }
+
+    private int positionOf(UUID id) {
+        return positions.computeIfAbsent(id, key -> {
+            ids.add(key);
+            return ids.size() - 1;
+        });
+    }
+
+    /**
+     * Drops the removed positions and renumbers the live ones densely, in the same order.
+     */
+    private void compact() {
+        int[] moved = new int[ids.size()];
+        List<UUID> compacted = new ArrayList<>(live.getCardinality());
+        positions.clear();
+        live.forEach((int position) -> {
+            moved[position] = compacted.size();
+            positions.put(ids.get(position), compacted.size());
+            compacted.add(ids.get(position));
+        });
+        ids.clear();
+        ids.addAll(compacted);
+        live.clear();
+        live.add(0L, compacted.size());
+        byCategory.replaceAll((key, bitmap) -> renumber(bitmap, moved));
+        byDifficulty.replaceAll((key, bitmap) -> renumber(bitmap, moved));
+        byType.replaceAll((key, bitmap) -> renumber(bitmap, moved));
+    }
+
+    private static RoaringBitmap renumber(RoaringBitmap bitmap, int[] moved) {
+        RoaringBitmap renumbered = new RoaringBitmap();
+        bitmap.forEach((int position) -> renumbered.add(moved[position]));
+        return renumbered;
+    }
+
+    private void add(int position, Long categoryId, Difficulty difficulty, Type type) {
+        if (categoryId != null) byCategory.computeIfAbsent(categoryId, key -> new RoaringBitmap()).add(position);
+        if (difficulty != null) byDifficulty.computeIfAbsent(difficulty, key -> new RoaringBitmap()).add(position);
+        if (type != null) byType.computeIfAbsent(type, key -> new RoaringBitmap()).add(position);
+    }
+
+    private void clear(int position) {
+        live.remove(position);
+        byCategory.values().removeIf(bitmap -> {
+            bitmap.remove(position);
+            return bitmap.isEmpty();
+        });
+        byDifficulty.values().forEach(bitmap -> bitmap.remove(position));
+        byType.values().forEach(bitmap -> bitmap.remove(position));
+    }
+}
@@ -0,0 +1,13 @@
+package com.prpa.trivia.service;
+
+import com.prpa.trivia.model.trivia.Question;
+
+import java.util.UUID;
+
+public interface QuestionIndex {
+
+    void put(Question question);
+
+    void remove(UUID id);
+
+}
@@ -0,0 +1,281 @@
+package com.prpa.trivia.service;
+
+import com.prpa.trivia.model.dto.QuestionIndexEntry;
+import com.prpa.trivia.model.trivia.Category;
+import com.prpa.trivia.model.trivia.Difficulty;
+import com.prpa.trivia.model.trivia.Question;
+import com.prpa.trivia.model.trivia.Type;
+import com.prpa.trivia.repository.QuestionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Questions bucketed for random draws. Every question owns a dense int slot; its difficulty, type, categories and
+ * its position inside each bucket it belongs to are kept in arrays indexed by the slot, and the buckets themselves
+ * are int arrays of slots. A question sits in exactly one difficulty and type bucket and in one category, difficulty
+ * and type bucket per category, so a draw goes over the first kind without a category filter and over the second
+ * with one, and never sees the same question twice.
+ */
+@Component
+public class QuestionSampler implements QuestionIndex {
+
+    private static final long[] NO_CATEGORIES = new long[0];
+    private static final int[] NO_POSITIONS = new int[0];
+
+    private final QuestionRepository questionRepository;
+
+    private final Map<UUID, Integer> slots = new HashMap<>();
+    private final Map<Key, Bucket> buckets = new HashMap<>();
+    private final Map<Key, Bucket> categoryBuckets = new HashMap<>();
+    private UUID[] ids = new UUID[0];
+    private Difficulty[] difficulties = new Difficulty[0];
+    private Type[] types = new Type[0];
+    private int[] bucketPositions = new int[0];
+    private long[][] categories = new long[0][];
+    private int[][] categoryPositions = new int[0][];
+    private int[] free = new int[0];
+    private int freeCount;
+    private int used;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Autowired
+    public QuestionSampler(QuestionRepository questionRepository) {
+        this.questionRepository = questionRepository;
+    }
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        try (Stream<QuestionIndexEntry> entries = questionRepository.streamIndexEntries()) {
+            lock.writeLock().lock();
+            try {
+                clear();
+                entries.forEach(entry -> {
+                    Integer slot = slots.get(entry.id());
+                    if (slot == null) slot = add(entry.id(), entry.difficulty(), entry.type());
+                    if (entry.categoryId() != null) addCategory(slot, entry.categoryId());
+                });
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    @Override
+    public void put(Question question) {
+        List<Category> questionCategories = question.getCategory() == null ? List.of() : question.getCategory();
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(question.getId());
+            int slot = add(question.getId(), question.getDifficulty(), question.getType());
+            for (Category category : questionCategories) addCategory(slot, category.getId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Draws up to {@code count} distinct ids matching the filters, a {@code null} filter matches anything.
+     * Runs a sparse Fisher-Yates shuffle over the concatenation of the matching buckets, so the cost is
+     * proportional to {@code count} and not to the number of indexed questions.
+     */
+    public List<UUID> draw(int count, Long categoryId, Difficulty difficulty, Type type) {
+        if (count < 1) throw new IllegalArgumentException("Count must be greater than 1.");
+
+        lock.readLock().lock();
+        try {
+            List<Bucket> matching = new ArrayList<>();
+            (categoryId == null ? buckets : categoryBuckets).forEach((key, bucket) -> {
+                if (key.matches(categoryId, difficulty, type)) matching.add(bucket);
+            });
+
+            int[] bounds = new int[matching.size()];
+            int total = 0;
+            for (int i = 0; i < matching.size(); i++) {
+                total += matching.get(i).size();
+                bounds[i] = total;
+            }
+
+            List<UUID> drawn = new ArrayList<>(Math.min(count, total));
+            Map<Integer, Integer> swapped = new HashMap<>();
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = 0; i < total && drawn.size() < count; i++) {
+                int j = random.nextInt(i, total);
+                int picked = swapped.getOrDefault(j, j);
+                swapped.put(j, swapped.getOrDefault(i, i));
+                drawn.add(ids[slotAt(matching, bounds, picked)]);
+            }
+            return drawn;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slots.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int slotAt(List<Bucket> matching, int[] bounds, int position) {
+        int bucket = Arrays.binarySearch(bounds, position);
+        bucket = bucket < 0 ? -bucket - 1 : bucket + 1;
+        int start = bucket == 0 ? 0 : bounds[bucket - 1];
+        return matching.get(bucket).get(position - start);
+    }
+
+    private void clear() {
+        slots.clear();
+        buckets.clear();
+        categoryBuckets.clear();
+        ids = new UUID[0];
+        difficulties = new Difficulty[0];
+        types = new Type[0];
+        bucketPositions = new int[0];
+        categories = new long[0][];
+        categoryPositions = new int[0][];
+        free = new int[0];
+        freeCount = 0;
+        used = 0;
+    }
+
+    private int add(UUID id, Difficulty difficulty, Type type) {
+        int slot = allocate();
+        slots.put(id, slot);
+        ids[slot] = id;
+        difficulties[slot] = difficulty;
+        types[slot] = type;
+        categories[slot] = NO_CATEGORIES;
+        categoryPositions[slot] = NO_POSITIONS;
+        bucketPositions[slot] = buckets.computeIfAbsent(new Key(null, difficulty, type), key -> new Bucket()).add(slot);
+        return slot;
+    }
+
+    private void addCategory(int slot, long categoryId) {
+        long[] slotCategories = categories[slot];
+        for (long present : slotCategories) {
+            if (present == categoryId) return;
+        }
+        int position = categoryBuckets.computeIfAbsent(new Key(categoryId, difficulties[slot], types[slot]), key -> new Bucket())
+                .add(slot);
+        categories[slot] = Arrays.copyOf(slotCategories, slotCategories.length + 1);
+        categories[slot][slotCategories.length] = categoryId;
+        categoryPositions[slot] = Arrays.copyOf(categoryPositions[slot], slotCategories.length + 1);
+        categoryPositions[slot][slotCategories.length] = position;
+    }
+
+    private void removeUnlocked(UUID id) {
+        Integer removed = slots.remove(id);
+        if (removed == null) return;
+        int slot = removed;
+
+        Key key = new Key(null, difficulties[slot], types[slot]);
+        int moved = removeAt(buckets, key, bucketPositions[slot]);
+        if (moved != Bucket.NONE) bucketPositions[moved] = bucketPositions[slot];
+
+        for (int i = 0; i < categories[slot].length; i++) {
+            long categoryId = categories[slot][i];
+            moved = removeAt(categoryBuckets, new Key(categoryId, difficulties[slot], types[slot]), categoryPositions[slot][i]);
+            if (moved == Bucket.NONE) continue;
+            long[] movedCategories = categories[moved];
+            for (int j = 0; j < movedCategories.length; j++) {
+                if (movedCategories[j] == categoryId) categoryPositions[moved][j] = categoryPositions[slot][i];
+            }
+        }
+
+        ids[slot] = null;
+        difficulties[slot] = null;
+        types[slot] = null;
+        categories[slot] = null;
+        categoryPositions[slot] = null;
+        if (freeCount == free.length) free = Arrays.copyOf(free, Math.max(16, freeCount * 2));
+        free[freeCount++] = slot;
+    }
+
+    /**
+     * Removes the entry at {@code position} of the bucket and returns the slot moved into its place, if any.
+     */
+    private static int removeAt(Map<Key, Bucket> buckets, Key key, int position) {
+        Bucket bucket = buckets.get(key);
+        int moved = bucket.removeAt(position);
+        if (bucket.size() == 0) buckets.remove(key);
+        return moved;
+    }
+
+    private int allocate() {
+        if (freeCount > 0) return free[--freeCount];
+        if (used == ids.length) {
+            int capacity = Math.max(16, used + (used >> 1));
+            ids = Arrays.copyOf(ids, capacity);
+            difficulties = Arrays.copyOf(difficulties, capacity);
+            types = Arrays.copyOf(types, capacity);
+            bucketPositions = Arrays.copyOf(bucketPositions, capacity);
+            categories = Arrays.copyOf(categories, capacity);
+            categoryPositions = Arrays.copyOf(categoryPositions, capacity);
+        }
+        return used++;
+    }
+
+    private record Key(Long categoryId, Difficulty difficulty, Type type) {
+
+        boolean matches(Long categoryId, Difficulty difficulty, Type type) {
+            return (categoryId == null || categoryId.equals(this.categoryId))
+                    && (difficulty == null || difficulty == this.difficulty)
+                    && (type == null || type == this.type);
+        }
+    }
+
+    private static class Bucket {
+
+        static final int NONE = -1;
+
+        private int[] slots = new int[4];
+        private int size;
+
+        int add(int slot) {
+            if (size == slots.length) slots = Arrays.copyOf(slots, size * 2);
+            slots[size] = slot;
+            return size++;
+        }
+
+        /**
+         * Swaps the last slot into {@code position} and returns it, or {@link #NONE} when the last one was removed.
+         */
+        int removeAt(int position) {
+            int last = slots[--size];
+            if (position == size) return NONE;
+            slots[position] = last;
+            return last;
+        }
+
+        int get(int position) {
+            return slots[position];
+        }
+
+        int size() {
+            return size;
+        }
+    }
+}
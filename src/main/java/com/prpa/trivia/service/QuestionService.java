@@ -1,47 +1,290 @@
 package com.prpa.trivia.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.prpa.trivia.model.trivia.Category;
+import com.prpa.trivia.model.trivia.Difficulty;
 import com.prpa.trivia.model.trivia.Question;
+import com.prpa.trivia.model.trivia.StatementHash;
+import com.prpa.trivia.model.trivia.Type;
+import com.prpa.trivia.model.dto.AnswerCheckReport;
+import com.prpa.trivia.model.dto.AnswerDTO;
+import com.prpa.trivia.model.dto.CategoryDTO;
+import com.prpa.trivia.model.dto.JsonFragment;
+import com.prpa.trivia.model.dto.QuestionField;
+import com.prpa.trivia.model.dto.QuestionFilter;
 import com.prpa.trivia.model.dto.QuestionDTO;
+import com.prpa.trivia.model.dto.QuestionImportResult;
+import com.prpa.trivia.model.dto.QuestionView;
+import com.prpa.trivia.model.dto.QuestionViewRow;
+import com.prpa.trivia.model.dto.SimilarQuestion;
+import com.prpa.trivia.model.exceptions.FieldReason;
+import com.prpa.trivia.model.exceptions.InvalidParameterException;
+import com.prpa.trivia.model.exceptions.ResourceAlreadyExistException;
+import com.prpa.trivia.model.exceptions.ResourceVersionConflictException;
 import com.prpa.trivia.model.exceptions.SpecificResourceNotFoundException;
 import com.prpa.trivia.repository.QuestionRepository;
 import com.prpa.trivia.resources.OffsetPageRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class QuestionService {
 
+    private static final Sort ID_ORDER = Sort.by("id");
+    private static final int EXPORT_CHUNK_SIZE = 100;
+    private static final int BACKFILL_CHUNK_SIZE = 500;
+
     private final QuestionRepository questionRepository;
     private final CategoryService categoryService;
+    private final QuestionSampler questionSampler;
+    private final NearDuplicateIndex nearDuplicateIndex;
+    private final QuestionFilterIndex questionFilterIndex;
+    private final AnswerTable answerTable;
+    private final QuestionStatsService questionStatsService;
+    private final List<QuestionIndex> questionIndexes;
+    private final Validator validator;
+    private final Cache<UUID, QuestionView> questionCache;
+    private final Cache<UUID, JsonFragment> questionJsonCache;
+    private final TransactionTemplate writeTransaction;
 
     @Autowired
-    public QuestionService(QuestionRepository questionRepository, CategoryService categoryService) {
+    public QuestionService(QuestionRepository questionRepository, CategoryService categoryService,
+                           QuestionSampler questionSampler, NearDuplicateIndex nearDuplicateIndex,
+                           QuestionFilterIndex questionFilterIndex, AnswerTable answerTable,
+                           QuestionStatsService questionStatsService, List<QuestionIndex> questionIndexes,
+                           Validator validator, Cache<UUID, QuestionView> questionCache,
+                           Cache<UUID, JsonFragment> questionJsonCache, PlatformTransactionManager transactionManager) {
         this.questionRepository = questionRepository;
         this.categoryService = categoryService;
+        this.questionSampler = questionSampler;
+        this.nearDuplicateIndex = nearDuplicateIndex;
+        this.questionFilterIndex = questionFilterIndex;
+        this.answerTable = answerTable;
+        this.questionStatsService = questionStatsService;
+        this.questionIndexes = questionIndexes;
+        this.validator = validator;
+        this.questionCache = questionCache;
+        this.questionJsonCache = questionJsonCache;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Loads outside of the cache compute: with open-in-view the caller may already hold a connection, and a loader
+     * waiting for one while holding the cache bin lock would block every holder that touches the same bin. Not
+     * transactional itself, a cache hit must not take a connection; the projection query runs read-only.
+     */
+    public Optional<QuestionView> findById(UUID id) {
+        QuestionView cached = questionCache.getIfPresent(id);
+        if (cached != null) return Optional.of(cached);
+
+        long generation = categoryService.generation();
+        Optional<QuestionView> found = findAllViews(List.of(id)).stream().findFirst();
+        found.ifPresent(question -> {
+            cache(question);
+            // A category renamed while loading is invalidated before or after this put, drop it in the latter case
+            if (categoryService.generation() != generation) questionCache.asMap().remove(id, question);
+        });
+        return found;
+    }
+
+    /**
+     * A reader that loaded before a concurrent update must not replace the view the update left in the cache.
+     */
+    private void cache(QuestionView question) {
+        questionCache.asMap().merge(question.id(), question,
+                (current, fresh) -> current.isNewerThan(fresh) ? current : fresh);
+    }
+
+    /**
+     * A cached question is trimmed in memory, otherwise only the requested columns are read. Sparse views are never
+     * cached.
+     */
+    public Optional<QuestionView> findById(UUID id, Set<QuestionField> fields) {
+        if (!QuestionField.isSparse(fields)) return findById(id);
+
+        QuestionView cached = questionCache.getIfPresent(id);
+        if (cached != null) return Optional.of(cached.select(fields));
+        return findAllViews(List.of(id), fields).stream().findFirst();
     }
 
-    public Optional<Question> findById(UUID id) {
-        return questionRepository.findById(id);
+    @Transactional(readOnly = true)
+    public List<QuestionView> findAll(int offset, int limit) {
+        return findAll(offset, limit, QuestionField.ALL);
     }
 
-    public List<Question> findAll(int offset, int limit) {
+    @Transactional(readOnly = true)
+    public List<QuestionView> findAll(int offset, int limit, Set<QuestionField> fields) {
         if (offset < 0) throw new IllegalArgumentException("Offset must be greater than 1.");
         if (limit < 1) throw new IllegalArgumentException("Limit must be greater than 1.");
 
-        Pageable page = OffsetPageRequest.of(offset, limit);
-        return questionRepository.findAll(page).toList();
+        Pageable page = OffsetPageRequest.of(offset, limit, ID_ORDER);
+        return findAllViews(questionRepository.findPageIds(page), fields);
+    }
+
+    @Transactional(readOnly = true)
+    public List<QuestionView> findAllAfter(UUID after, int limit) {
+        return findAllAfter(after, limit, QuestionField.ALL);
+    }
+
+    @Transactional(readOnly = true)
+    public List<QuestionView> findAllAfter(UUID after, int limit, Set<QuestionField> fields) {
+        if (limit < 1) throw new IllegalArgumentException("Limit must be greater than 1.");
+
+        Pageable page = OffsetPageRequest.of(0, limit, ID_ORDER);
+        return findAllViews(questionRepository.findPageIdsAfter(after, page), fields);
+    }
+
+    /**
+     * Builds the index filter for the given category names, difficulties and types. Empty when categories were
+     * requested but none of them exists, since nothing can match.
+     */
+    public Optional<QuestionFilter> filterOf(Collection<String> categoryNames, Collection<Difficulty> difficulties,
+                                             Collection<Type> types) {
+        Set<Long> categoryIds = new HashSet<>();
+        if (categoryNames != null && !categoryNames.isEmpty()) {
+            categoryService.resolveExisting(categoryNames).forEach(category -> categoryIds.add(category.getId()));
+            if (categoryIds.isEmpty()) return Optional.empty();
+        }
+        return Optional.of(new QuestionFilter(categoryIds,
+                difficulties == null ? null : new HashSet<>(difficulties),
+                types == null ? null : new HashSet<>(types)));
+    }
+
+    @Transactional(readOnly = true)
+    public List<QuestionView> findAllFiltered(QuestionFilter filter, int offset, UUID after, int limit) {
+        return findAllFiltered(filter, offset, after, limit, QuestionField.ALL);
+    }
+
+    @Transactional(readOnly = true)
+    public List<QuestionView> findAllFiltered(QuestionFilter filter, int offset, UUID after, int limit,
+                                              Set<QuestionField> fields) {
+        List<UUID> ids = questionFilterIndex.find(filter, offset, after, limit)
+                .orElseThrow(() -> new InvalidParameterException("after", String.valueOf(after)));
+        return findAllViews(ids, fields);
+    }
+
+    public int count(QuestionFilter filter) {
+        return questionFilterIndex.count(filter);
+    }
+
+    /**
+     * Scores the answers against the in-memory answer table, without touching the database. Answers to unknown
+     * questions are {@code UNKNOWN}, answers without a valid chosen index are {@code INCORRECT}.
+     */
+    public AnswerCheckReport checkAnswers(List<AnswerDTO> answers) {
+        int size = answers.size();
+        long[] msbs = new long[size];
+        long[] lsbs = new long[size];
+        for (int i = 0; i < size; i++) {
+            UUID id = answers.get(i).getQuestionId();
+            if (id == null) continue;
+            msbs[i] = id.getMostSignificantBits();
+            lsbs[i] = id.getLeastSignificantBits();
+        }
+
+        byte[] correct = new byte[size];
+        answerTable.correctIndexes(msbs, lsbs, correct);
+
+        AnswerCheckReport.Status[] items = new AnswerCheckReport.Status[size];
+        for (int i = 0; i < size; i++) {
+            AnswerDTO answer = answers.get(i);
+            if (answer.getQuestionId() == null || correct[i] == AnswerTable.ABSENT) {
+                items[i] = AnswerCheckReport.Status.UNKNOWN;
+                continue;
+            }
+            int chosen = answer.getChosenIndex() == null ? AnswerTable.ABSENT : answer.getChosenIndex();
+            items[i] = chosen == correct[i] ? AnswerCheckReport.Status.CORRECT : AnswerCheckReport.Status.INCORRECT;
+            questionStatsService.recordAnswer(answer.getQuestionId(), chosen, chosen == correct[i]);
+        }
+        return AnswerCheckReport.of(items);
+    }
+
+    @Transactional(readOnly = true)
+    public List<QuestionView> findRandom(int count, String categoryName, Difficulty difficulty, Type type) {
+        if (count < 1) throw new IllegalArgumentException("Count must be greater than 1.");
+
+        Long categoryId = null;
+        if (categoryName != null && !categoryName.isBlank()) {
+            Optional<Category> category = categoryService.findByName(categoryName.trim());
+            if (category.isEmpty()) return List.of();
+            categoryId = category.get().getId();
+        }
+
+        List<UUID> drawn = questionSampler.draw(count, categoryId, difficulty, type);
+        drawn.forEach(questionStatsService::recordServed);
+        return findAllViews(drawn);
+    }
+
+    public List<SimilarQuestion> findSimilar(String statement, double threshold, int limit) {
+        if (threshold <= 0 || threshold > 1) throw new IllegalArgumentException("Threshold must be in (0, 1].");
+        if (limit < 1) throw new IllegalArgumentException("Limit must be greater than 1.");
+
+        return nearDuplicateIndex.findSimilar(statement, threshold, limit);
+    }
+
+    /**
+     * Streams the projection rows ordered by id and hands the views to the consumer in chunks. No entity is ever
+     * loaded, so the persistence context stays empty however large the corpus is.
+     */
+    @Transactional(readOnly = true)
+    public void export(String categoryName, Difficulty difficulty, Consumer<List<QuestionView>> chunkConsumer) {
+        Long categoryId = null;
+        if (categoryName != null && !categoryName.isBlank()) {
+            Optional<Category> category = categoryService.findByName(categoryName.trim());
+            if (category.isEmpty()) return;
+            categoryId = category.get().getId();
+        }
+
+        List<QuestionView> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+        QuestionView.Grouper grouper = new QuestionView.Grouper(view -> {
+            chunk.add(view);
+            if (chunk.size() == EXPORT_CHUNK_SIZE) {
+                chunkConsumer.accept(chunk);
+                chunk.clear();
+            }
+        });
+        try (Stream<QuestionViewRow> rows = questionRepository.streamViewRows(difficulty, categoryId)) {
+            rows.forEach(grouper::add);
+        }
+        grouper.flush();
+        if (!chunk.isEmpty()) chunkConsumer.accept(chunk);
+    }
+
+    private List<QuestionView> findAllViews(List<UUID> ids) {
+        return findAllViews(ids, QuestionField.ALL);
+    }
+
+    private List<QuestionView> findAllViews(List<UUID> ids, Set<QuestionField> fields) {
+        if (ids.isEmpty()) return List.of();
+
+        Map<UUID, QuestionView> found = new HashMap<>();
+        if (QuestionField.isSparse(fields)) {
+            questionRepository.findSparseByIdIn(ids, fields).forEach(view -> found.put(view.id(), view));
+        } else {
+            found.putAll(QuestionView.fromRows(questionRepository.findViewRowsByIdIn(ids)));
+        }
+        return ids.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     public boolean existsByStatement(String statement) {
-        return questionRepository.existsByStatement(statement);
+        return questionRepository.existsByStatementHash(StatementHash.of(statement));
     }
 
     public Question save(@Valid QuestionDTO newQuestion) {
@@ -56,27 +299,154 @@ public class QuestionService {
                 .correctIndex(newQuestion.getCorrectIndex())
                 .build();
 
-        return questionRepository.save(questionToBeSaved);
+        Question saved = questionRepository.save(questionToBeSaved);
+        questionIndexes.forEach(index -> index.put(saved));
+        return saved;
+    }
+
+    /**
+     * Inserts the chunk in one transaction. Categories are resolved before it opens, so their inserts never wait for a
+     * second connection while this one is held. When a concurrent import wins the race for a statement after the hash
+     * check, the unique constraint rejects the whole chunk and the items are retried one by one, reporting the losing
+     * ones as duplicates. The indexes only see questions once their transaction committed.
+     */
+    public List<QuestionImportResult> saveAll(List<QuestionDTO> newQuestions, int firstIndex) {
+        QuestionImportResult[] results = new QuestionImportResult[newQuestions.size()];
+
+        Map<Integer, QuestionDTO> accepted = new LinkedHashMap<>();
+        for (int i = 0; i < newQuestions.size(); i++) {
+            List<FieldReason> errors = validateForImport(newQuestions.get(i));
+            if (errors.isEmpty()) accepted.put(i, newQuestions.get(i));
+            else results[i] = QuestionImportResult.invalid(firstIndex + i, errors);
+        }
+
+        Map<Integer, String> hashes = new HashMap<>();
+        Set<String> categoryNames = new HashSet<>();
+        accepted.forEach((i, dto) -> {
+            hashes.put(i, StatementHash.of(dto.getStatement()));
+            dto.getCategory().forEach(category -> categoryNames.add(category.getName().trim()));
+        });
+        Set<String> taken = hashes.isEmpty() ? new HashSet<>() :
+                new HashSet<>(questionRepository.findExistingStatementHashes(new HashSet<>(hashes.values())));
+
+        accepted.entrySet().removeIf(entry -> {
+            boolean duplicate = !taken.add(hashes.get(entry.getKey()));
+            if (duplicate) results[entry.getKey()] = QuestionImportResult.duplicate(firstIndex + entry.getKey());
+            return duplicate;
+        });
+        if (accepted.isEmpty()) return Arrays.asList(results);
+
+        Map<String, Category> categories = categoryService.resolveAll(categoryNames);
+        try {
+            Map<Integer, Question> saved = writeTransaction.execute(status -> {
+                Map<Integer, Question> toBeSaved = new LinkedHashMap<>();
+                accepted.forEach((i, dto) -> toBeSaved.put(i, questionOf(dto, categories)));
+                questionRepository.saveAllAndFlush(toBeSaved.values());
+                AfterCommit.run(() -> toBeSaved.values().forEach(this::index));
+                return toBeSaved;
+            });
+            saved.forEach((i, question) -> results[i] = QuestionImportResult.created(firstIndex + i, question.getId()));
+        } catch (DataIntegrityViolationException e) {
+            accepted.forEach((i, dto) -> results[i] = saveOne(dto, categories, firstIndex + i));
+        }
+        return Arrays.asList(results);
+    }
+
+    private QuestionImportResult saveOne(QuestionDTO dto, Map<String, Category> categories, int index) {
+        try {
+            Question saved = writeTransaction.execute(status -> {
+                Question question = questionRepository.saveAndFlush(questionOf(dto, categories));
+                AfterCommit.run(() -> index(question));
+                return question;
+            });
+            return QuestionImportResult.created(index, saved.getId());
+        } catch (DataIntegrityViolationException e) {
+            return QuestionImportResult.duplicate(index);
+        }
+    }
+
+    private Question questionOf(QuestionDTO dto, Map<String, Category> categories) {
+        return Question.builder()
+                .category(dto.getCategory().stream()
+                        .map(category -> categories.get(category.getName().trim()))
+                        .distinct()
+                        .collect(Collectors.toCollection(ArrayList::new)))
+                .difficulty(dto.getDifficulty())
+                .type(dto.getType())
+                .statement(dto.getStatement().trim())
+                .alternatives(dto.getAlternatives())
+                .correctIndex(dto.getCorrectIndex())
+                .build();
+    }
+
+    private void index(Question question) {
+        questionIndexes.forEach(index -> index.put(question));
+    }
+
+    private List<FieldReason> validateForImport(QuestionDTO question) {
+        List<FieldReason> errors = new ArrayList<>(validator.validate(question).stream()
+                .map(violation -> new FieldReason(violation.getPropertyPath().toString(), violation.getMessage()))
+                .toList());
+        List<CategoryDTO> categories = Objects.requireNonNullElse(question.getCategory(), List.of());
+        if (categories.stream().anyMatch(category -> category == null || category.getName() == null || category.getName().isBlank())) {
+            errors.add(new FieldReason("category", "error.category.empty.name.message"));
+        }
+        return errors;
     }
 
     public boolean existsById(UUID id) {
         return questionRepository.existsById(id);
     }
 
-    public Question update(UUID id, QuestionDTO newQuestion) {
+    /**
+     * Loads, validates and writes the question in a single transaction. The statement uniqueness is enforced by the
+     * statement hash constraint and a concurrent writer is detected by the version column, so no existence checks are
+     * issued before the update. A {@code null} expected version skips the precondition but still fails on a
+     * concurrent write. Categories are resolved before the transaction opens, a new one is inserted on its own
+     * connection and must not wait for it while this transaction holds another.
+     */
+    public Question update(UUID id, QuestionDTO newQuestion, Long expectedVersion) {
+        List<Category> categories = categoryService.findOrSaveAll(newQuestion.getCategory());
+        return writeTransaction.execute(status -> update(id, newQuestion, expectedVersion, categories));
+    }
+
+    private Question update(UUID id, QuestionDTO newQuestion, Long expectedVersion, List<Category> categories) {
         Question found = questionRepository.findById(id)
                 .orElseThrow(() -> new SpecificResourceNotFoundException("id", String.valueOf(id)));
+        if (expectedVersion != null && !expectedVersion.equals(found.getVersion()))
+            throw new ResourceVersionConflictException("id", String.valueOf(id));
 
-        List<Category> categories = categoryService.findOrSaveAll(newQuestion.getCategory());
-
-        found.setCategory(categories.isEmpty() ? found.getCategory() : categories);
+        if (!categories.isEmpty() && !sameCategories(found.getCategory(), categories)) found.setCategory(categories);
         found.setDifficulty(Objects.requireNonNullElse(newQuestion.getDifficulty(), found.getDifficulty()));
         found.setType(Objects.requireNonNullElse(newQuestion.getType(), found.getType()));
         found.setStatement(requireNonEmptyElse(newQuestion.getStatement(), found.getStatement()));
         found.setAlternatives(Objects.requireNonNullElse(newQuestion.getAlternatives(), found.getAlternatives()));
         found.setCorrectIndex(positiveOrZeroElse(newQuestion.getCorrectIndex(), found.getCorrectIndex()));
 
-        return questionRepository.save(found);
+        Question updated;
+        try {
+            updated = questionRepository.saveAndFlush(found);
+        } catch (OptimisticLockingFailureException e) {
+            throw new ResourceVersionConflictException("id", String.valueOf(id));
+        } catch (DataIntegrityViolationException e) {
+            throw new ResourceAlreadyExistException("statement", found.getStatement());
+        }
+        // Readers may cache the old row until the commit, the merge lets the new view win over it
+        QuestionView view = QuestionView.of(updated);
+        AfterCommit.run(() -> {
+            cache(view);
+            questionJsonCache.invalidate(id);
+            questionIndexes.forEach(index -> index.put(updated));
+        });
+        return updated;
+    }
+
+    private boolean sameCategories(List<Category> current, List<Category> categories) {
+        if (current == null || current.size() != categories.size()) return false;
+        for (int i = 0; i < categories.size(); i++) {
+            if (!Objects.equals(current.get(i).getId(), categories.get(i).getId())) return false;
+        }
+        return true;
     }
 
     private Integer positiveOrZeroElse(Integer index, Integer defaultValue) {
@@ -90,13 +460,46 @@ public class QuestionService {
 
     public void delete(UUID id) {
         questionRepository.deleteById(id);
+        questionCache.invalidate(id);
+        questionJsonCache.invalidate(id);
+        questionIndexes.forEach(index -> index.remove(id));
+        questionStatsService.remove(id);
+    }
+
+    /**
+     * Fills the statement hash of rows written before the column existed. Rows whose normalized statement
+     * collides with an already hashed one are left without a hash and counted in the returned value. Every chunk
+     * commits on its own, so a large table is not held in a single transaction and an interrupted backfill resumes
+     * from the rows still unhashed.
+     */
+    public int backfillStatementHashes() {
+        int collisions = 0;
+        UUID after = null;
+        BackfillChunk chunk;
+        do {
+            UUID from = after;
+            chunk = writeTransaction.execute(status -> backfillChunk(from));
+            collisions += chunk.collisions();
+            after = chunk.last();
+        } while (chunk.size() == BACKFILL_CHUNK_SIZE);
+        return collisions;
+    }
+
+    private BackfillChunk backfillChunk(UUID after) {
+        List<Question> chunk = questionRepository.findUnhashedAfter(after, OffsetPageRequest.of(0, BACKFILL_CHUNK_SIZE, ID_ORDER));
+        if (chunk.isEmpty()) return new BackfillChunk(0, after, 0);
+
+        Map<Question, String> hashes = new LinkedHashMap<>();
+        chunk.forEach(question -> hashes.put(question, StatementHash.of(question.getStatement())));
+        Set<String> taken = new HashSet<>(questionRepository.findExistingStatementHashes(new HashSet<>(hashes.values())));
+        int collisions = 0;
+        for (Map.Entry<Question, String> entry : hashes.entrySet()) {
+            if (taken.add(entry.getValue())) entry.getKey().setStatementHash(entry.getValue());
+            else collisions++;
+        }
+        return new BackfillChunk(chunk.size(), chunk.get(chunk.size() - 1).getId(), collisions);
     }
 
-    public boolean existsByStatementAndDifferentId(UUID id, String statement) {
-        final boolean isSameEntity = questionRepository.findById(id)
-                .orElseThrow(() -> new SpecificResourceNotFoundException("id", String.valueOf(id)))
-                .getStatement().equals(statement);
-        if (isSameEntity) return false;
-        return questionRepository.existsByStatement(statement);
+    private record BackfillChunk(int size, UUID last, int collisions) {
     }
 }
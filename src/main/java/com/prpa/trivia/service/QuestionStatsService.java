@@ -0,0 +1,252 @@
+package com.prpa.trivia.service;
+
+import com.prpa.trivia.model.dto.CategoryStatsDTO;
+import com.prpa.trivia.model.dto.QuestionStatsDTO;
+import com.prpa.trivia.model.stats.QuestionPickStats;
+import com.prpa.trivia.repository.QuestionPickStatsRepository;
+import com.prpa.trivia.repository.QuestionStatsRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts how often each question is served and answered in striped {@link LongAdder}s and writes the deltas to
+ * the statistics tables in batched increments on a schedule and on shutdown. Counters are never reset: each flush
+ * writes the difference to what the previous successful flush wrote, so increments racing a flush, or a flush that
+ * fails, are carried to the next one instead of being lost.
+ * <p>
+ * Counters of a question that saw no increment since the previous successful flush are retired from the map, so only
+ * recently active questions are held and walked. A recorder may still hold a retired counter between its lookup and
+ * its increment, retired counters are therefore flushed once more on the next run before they are dropped.
+ */
+@Slf4j
+@Service
+public class QuestionStatsService {
+
+    public static final int MAX_ALTERNATIVES = 32;
+
+    private static final String UPDATE_STATS = "update Question_Stats set served = served + ?, correct = correct + ?, " +
+            "wrong = wrong + ? where question_id = ?";
+    private static final String INSERT_STATS = "insert into Question_Stats (question_id, served, correct, wrong) " +
+            "values (?, ?, ?, ?)";
+    private static final String UPDATE_PICKS = "update Question_Pick_Stats set picks = picks + ? " +
+            "where question_id = ? and alternative = ?";
+    private static final String INSERT_PICKS = "insert into Question_Pick_Stats (question_id, alternative, picks) " +
+            "values (?, ?, ?)";
+
+    private final QuestionStatsRepository questionStatsRepository;
+    private final QuestionPickStatsRepository questionPickStatsRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate flushTransaction;
+
+    private final ConcurrentMap<UUID, Counters> counters = new ConcurrentHashMap<>();
+    // Only touched by the flushing thread.
+    private List<Counters> retired = new ArrayList<>();
+
+    @Autowired
+    public QuestionStatsService(QuestionStatsRepository questionStatsRepository,
+                                QuestionPickStatsRepository questionPickStatsRepository, JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager) {
+        this.questionStatsRepository = questionStatsRepository;
+        this.questionPickStatsRepository = questionPickStatsRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.flushTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    public void recordServed(UUID questionId) {
+        countersOf(questionId).served.increment();
+    }
+
+    public void recordAnswer(UUID questionId, int alternative, boolean correct) {
+        Counters questionCounters = countersOf(questionId);
+        (correct ? questionCounters.correct : questionCounters.wrong).increment();
+        questionCounters.pick(alternative);
+    }
+
+    public QuestionStatsDTO findByQuestion(UUID questionId) {
+        Map<Integer, Long> picks = new TreeMap<>();
+        for (QuestionPickStats pick : questionPickStatsRepository.findByQuestionIdOrderByAlternative(questionId)) {
+            picks.put(pick.getAlternative(), pick.getPicks());
+        }
+        return questionStatsRepository.findById(questionId)
+                .map(stats -> QuestionStatsDTO.of(questionId, stats.getServed(), stats.getCorrect(), stats.getWrong(), picks))
+                .orElseGet(() -> QuestionStatsDTO.of(questionId, 0, 0, 0, picks));
+    }
+
+    public CategoryStatsDTO findByCategory(Long categoryId) {
+        CategoryStatsDTO found = questionStatsRepository.findCategoryStats(categoryId);
+        return found == null ? CategoryStatsDTO.empty(categoryId) : found;
+    }
+
+    /**
+     * Drops the counts of a deleted question that were not flushed yet.
+     */
+    public void remove(UUID questionId) {
+        counters.remove(questionId);
+    }
+
+    /** Number of questions with counters held in memory. */
+    public int size() {
+        return counters.size();
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${application.stats.flush-interval:PT10S}")
+    public synchronized void flush() {
+        List<Delta> deltas = new ArrayList<>();
+        List<Counters> idle = new ArrayList<>();
+        counters.forEach((questionId, questionCounters) -> {
+            if (questionCounters.isFlushed()) idle.add(questionCounters);
+            else deltas.add(questionCounters.delta());
+        });
+        for (Counters questionCounters : retired) {
+            if (!questionCounters.isFlushed()) deltas.add(questionCounters.delta());
+        }
+
+        if (!deltas.isEmpty()) {
+            try {
+                flushTransaction.executeWithoutResult(status -> write(deltas));
+                deltas.forEach(Delta::commit);
+            } catch (DataAccessException e) {
+                log.warn("Could not flush the statistics of {} questions, the counts are kept for the next flush.",
+                        deltas.size(), e);
+                return;
+            }
+        }
+
+        retired = new ArrayList<>();
+        for (Counters questionCounters : idle) {
+            if (counters.remove(questionCounters.questionId, questionCounters)) retired.add(questionCounters);
+        }
+    }
+
+    private void write(List<Delta> deltas) {
+        List<Object[]> statsUpdates = new ArrayList<>(), statsInserts = new ArrayList<>();
+        List<Object[]> picksUpdates = new ArrayList<>(), picksInserts = new ArrayList<>();
+        for (Delta delta : deltas) {
+            if (delta.served != 0 || delta.correct != 0 || delta.wrong != 0) {
+                statsUpdates.add(new Object[]{delta.served, delta.correct, delta.wrong, delta.questionId});
+                statsInserts.add(new Object[]{delta.questionId, delta.served, delta.correct, delta.wrong});
+            }
+            for (int alternative = 0; alternative < MAX_ALTERNATIVES; alternative++) {
+                if (delta.picks[alternative] == 0) continue;
+                picksUpdates.add(new Object[]{delta.picks[alternative], delta.questionId, alternative});
+                picksInserts.add(new Object[]{delta.questionId, alternative, delta.picks[alternative]});
+            }
+        }
+        upsert(UPDATE_STATS, statsUpdates, INSERT_STATS, statsInserts);
+        upsert(UPDATE_PICKS, picksUpdates, INSERT_PICKS, picksInserts);
+    }
+
+    /**
+     * Runs the increments as one batch, then inserts the rows the update did not find as another batch. When another
+     * node inserts one of those rows first the transaction fails on the key and the flush is retried on schedule,
+     * when the update will find the row.
+     */
+    private void upsert(String update, List<Object[]> updates, String insert, List<Object[]> inserts) {
+        if (updates.isEmpty()) return;
+        int[] updated = jdbcTemplate.batchUpdate(update, updates);
+
+        List<Object[]> missing = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) missing.add(inserts.get(i));
+        }
+        if (!missing.isEmpty()) jdbcTemplate.batchUpdate(insert, missing);
+    }
+
+    private Counters countersOf(UUID questionId) {
+        return counters.computeIfAbsent(questionId, Counters::new);
+    }
+
+    private static class Counters {
+
+        private final UUID questionId;
+        private final LongAdder served = new LongAdder();
+        private final LongAdder correct = new LongAdder();
+        private final LongAdder wrong = new LongAdder();
+        private final AtomicReferenceArray<LongAdder> picks = new AtomicReferenceArray<>(MAX_ALTERNATIVES);
+
+        // Values written by the last successful flush, only touched by the flushing thread.
+        private long flushedServed;
+        private long flushedCorrect;
+        private long flushedWrong;
+        private final long[] flushedPicks = new long[MAX_ALTERNATIVES];
+
+        Counters(UUID questionId) {
+            this.questionId = questionId;
+        }
+
+        void pick(int alternative) {
+            if (alternative < 0 || alternative >= MAX_ALTERNATIVES) return;
+            LongAdder adder = picks.get(alternative);
+            if (adder == null) {
+                picks.compareAndSet(alternative, null, new LongAdder());
+                adder = picks.get(alternative);
+            }
+            adder.increment();
+        }
+
+        /** True when the last successful flush wrote every increment, checked without allocating a delta. */
+        boolean isFlushed() {
+            if (served.sum() != flushedServed || correct.sum() != flushedCorrect || wrong.sum() != flushedWrong) {
+                return false;
+            }
+            for (int i = 0; i < MAX_ALTERNATIVES; i++) {
+                LongAdder adder = picks.get(i);
+                if (adder != null && adder.sum() != flushedPicks[i]) return false;
+            }
+            return true;
+        }
+
+        Delta delta() {
+            long[] pickTotals = new long[MAX_ALTERNATIVES];
+            for (int i = 0; i < MAX_ALTERNATIVES; i++) {
+                LongAdder adder = picks.get(i);
+                pickTotals[i] = adder == null ? 0 : adder.sum();
+            }
+            return new Delta(this, questionId, served.sum(), correct.sum(), wrong.sum(), pickTotals);
+        }
+    }
+
+    private static class Delta {
+
+        private final Counters counters;
+        private final UUID questionId;
+        private final long servedTotal, correctTotal, wrongTotal;
+        private final long[] pickTotals;
+        private final long served, correct, wrong;
+        private final long[] picks = new long[MAX_ALTERNATIVES];
+
+        Delta(Counters counters, UUID questionId, long servedTotal, long correctTotal, long wrongTotal, long[] pickTotals) {
+            this.counters = counters;
+            this.questionId = questionId;
+            this.servedTotal = servedTotal;
+            this.correctTotal = correctTotal;
+            this.wrongTotal = wrongTotal;
+            this.pickTotals = pickTotals;
+            this.served = servedTotal - counters.flushedServed;
+            this.correct = correctTotal - counters.flushedCorrect;
+            this.wrong = wrongTotal - counters.flushedWrong;
+            for (int i = 0; i < MAX_ALTERNATIVES; i++) picks[i] = pickTotals[i] - counters.flushedPicks[i];
+        }
+
+        void commit() {
+            counters.flushedServed = servedTotal;
+            counters.flushedCorrect = correctTotal;
+            counters.flushedWrong = wrongTotal;
+            System.arraycopy(pickTotals, 0, counters.flushedPicks, 0, MAX_ALTERNATIVES);
+        }
+    }
+}
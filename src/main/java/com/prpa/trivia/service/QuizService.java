@@ -0,0 +1,115 @@
+package com.prpa.trivia.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.prpa.trivia.model.dto.QuestionView;
+import com.prpa.trivia.model.dto.QuizAnswerResult;
+import com.prpa.trivia.model.dto.QuizQuestionDTO;
+import com.prpa.trivia.model.dto.QuizRequestDTO;
+import com.prpa.trivia.model.dto.QuizSessionDTO;
+import com.prpa.trivia.model.exceptions.InvalidParameterException;
+import com.prpa.trivia.model.exceptions.QuizSessionFinishedException;
+import com.prpa.trivia.model.exceptions.SpecificResourceNotFoundException;
+import com.prpa.trivia.model.quiz.QuizQuestion;
+import com.prpa.trivia.model.quiz.QuizSession;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Runs quiz games entirely in memory. Sessions live in a Caffeine cache that evicts them after a period without
+ * access, and the state of each session is guarded by one of {@value #LOCK_STRIPES} striped locks, so concurrent
+ * requests for the same session are serialized without a lock object per session.
+ */
+@Service
+public class QuizService {
+
+    public static final int LOCK_STRIPES = 256;
+
+    private final QuestionService questionService;
+    private final QuestionStatsService questionStatsService;
+    private final LeaderboardService leaderboardService;
+    private final Cache<UUID, QuizSession> quizSessionCache;
+    private final Lock[] locks = new Lock[LOCK_STRIPES];
+
+    @Autowired
+    public QuizService(QuestionService questionService, QuestionStatsService questionStatsService,
+                       LeaderboardService leaderboardService, Cache<UUID, QuizSession> quizSessionCache) {
+        this.questionService = questionService;
+        this.questionStatsService = questionStatsService;
+        this.leaderboardService = leaderboardService;
+        this.quizSessionCache = quizSessionCache;
+        for (int i = 0; i < LOCK_STRIPES; i++) locks[i] = new ReentrantLock();
+    }
+
+    public QuizSessionDTO create(QuizRequestDTO request) {
+        List<QuestionView> drawn = questionService.findRandom(request.getCount(), request.getCategory(),
+                request.getDifficulty(), request.getType());
+        if (drawn.isEmpty()) throw new SpecificResourceNotFoundException(
+                "category", Objects.toString(request.getCategory(), ""),
+                "difficulty", Objects.toString(request.getDifficulty(), ""),
+                "type", Objects.toString(request.getType(), ""));
+
+        QuizSession session = new QuizSession(UUID.randomUUID(),
+                drawn.stream().map(QuizQuestion::of).toList(),
+                Instant.now(Clock.systemUTC()),
+                request.getPlayer() == null || request.getPlayer().isBlank() ? null : request.getPlayer().strip());
+        quizSessionCache.put(session.getId(), session);
+        return QuizSessionDTO.of(session);
+    }
+
+    public QuizSessionDTO find(UUID id) {
+        return withSession(id, QuizSessionDTO::of);
+    }
+
+    public QuizQuestionDTO currentQuestion(UUID id) {
+        return withSession(id, session -> {
+            if (session.isFinished()) throw new QuizSessionFinishedException("id", String.valueOf(id));
+            return QuizQuestionDTO.of(session.getPosition(), session.getQuestions().size(), session.current());
+        });
+    }
+
+    /**
+     * Scores {@code alternative} for the question at {@code position}. The position must be the current one, so a
+     * retried request cannot answer the next question by accident.
+     */
+    public QuizAnswerResult answer(UUID id, int position, int alternative) {
+        return withSession(id, session -> {
+            if (session.isFinished()) throw new QuizSessionFinishedException("id", String.valueOf(id));
+            if (position != session.getPosition()) throw new InvalidParameterException("position", String.valueOf(position));
+
+            QuizQuestion question = session.current();
+            boolean correct = session.answer(alternative);
+            questionStatsService.recordAnswer(question.id(), alternative, correct);
+            if (correct && session.getPlayer() != null) {
+                leaderboardService.record(session.getPlayer(), question.category(),
+                        LeaderboardService.pointsOf(question.difficulty()));
+            }
+            return new QuizAnswerResult(correct, question.correctIndex(), session.getScore(), session.isFinished());
+        });
+    }
+
+    public void delete(UUID id) {
+        quizSessionCache.invalidate(id);
+    }
+
+    private <T> T withSession(UUID id, Function<QuizSession, T> action) {
+        QuizSession session = quizSessionCache.getIfPresent(id);
+        if (session == null) throw new SpecificResourceNotFoundException("id", String.valueOf(id));
+
+        Lock lock = locks[Math.floorMod(id.hashCode(), LOCK_STRIPES)];
+        lock.lock();
+        try {
+            return action.apply(session);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
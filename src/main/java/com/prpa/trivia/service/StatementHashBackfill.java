@@ -0,0 +1,27 @@
+package com.prpa.trivia.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class StatementHashBackfill implements CommandLineRunner {
+
+    private final QuestionService questionService;
+
+    @Autowired
+    public StatementHashBackfill(QuestionService questionService) {
+        this.questionService = questionService;
+    }
+
+    @Override
+    public void run(String... args) {
+        int collisions = questionService.backfillStatementHashes();
+        if (collisions > 0) {
+            log.warn("{} questions share a normalized statement with another question and were left without a statement hash.",
+                    collisions);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+-- Schema of the "dio" profile. Hibernate only validates the schema there, so every statement is idempotent and
+-- the script runs on every start, creating a fresh database or bringing an existing one up to date.
+
+create sequence if not exists category_seq start with 1 increment by 50;
+
+create table if not exists category (
+    id bigint not null primary key,
+    name varchar(255) not null constraint category_name_unique unique
+);
+
+create table if not exists question (
+    id uuid not null primary key,
+    difficulty varchar(255) not null check (difficulty in ('EASY', 'MEDIUM', 'HARD')),
+    type varchar(255) not null check (type in ('BOOLEAN', 'MULTIPLE', 'CARD')),
+    statement text not null,
+    alternatives varchar(255)[] not null,
+    correct integer not null
+);
+
+create table if not exists question_category (
+    question_id uuid not null references question (id),
+    category_id bigint not null references category (id),
+    constraint question_category_unique unique (question_id, category_id)
+);
+
+-- Duplicate statements are detected through the normalized statement hash, which replaces the unique
+-- constraint on the raw statement text.
+alter table question add column if not exists statement_hash varchar(64);
+create unique index if not exists question_statement_hash_unique on question (statement_hash);
+
+do $$
+declare
+    statement_constraint text;
+begin
+    for statement_constraint in
+        select c.conname
+        from pg_constraint c
+        join pg_attribute a on a.attrelid = c.conrelid and a.attnum = c.conkey[1]
+        where c.conrelid = 'question'::regclass
+          and c.contype = 'u'
+          and cardinality(c.conkey) = 1
+          and a.attname = 'statement'
+    loop
+        execute format('alter table question drop constraint %I', statement_constraint);
+    end loop;
+end
+$$;
+
+-- Optimistic locking of question updates.
+alter table question add column if not exists version bigint not null default 0;
+
+create table if not exists question_stats (
+    question_id uuid not null primary key,
+    served bigint not null,
+    correct bigint not null,
+    wrong bigint not null
+);
+
+create table if not exists question_pick_stats (
+    question_id uuid not null,
+    alternative integer not null,
+    picks bigint not null,
+    primary key (question_id, alternative)
+);
+
+create table if not exists leaderboard_snapshot (
+    scope varchar(255) not null,
+    board_window varchar(255) not null check (board_window in ('ALL_TIME', 'DAILY', 'WEEKLY')),
+    period_start date not null,
+    player varchar(64) not null,
+    score bigint not null,
+    primary key (scope, board_window, period_start, player)
+);
@@ -0,0 +1,19 @@
+package com.prpa.trivia.integration.query;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.*;
+
+/**
+ * Fails the test when its body prepares more than {@link #value()} SQL statements on the test thread, which
+ * includes requests performed through MockMvc. Setup and cleanup methods are not counted.
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+@ExtendWith(QueryBudgetExtension.class)
+public @interface MaxQueries {
+
+    int value();
+}
@@ -0,0 +1,37 @@
+package com.prpa.trivia.integration.query;
+
+import com.prpa.trivia.config.QueryCounter;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+public class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(QueryBudgetExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(context.getUniqueId(),
+                QueryCounter.open(context.getDisplayName(), -1, true));
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        QueryCounter.Scope scope = context.getStore(NAMESPACE).remove(context.getUniqueId(), QueryCounter.Scope.class);
+        if (scope == null) return;
+        scope.close();
+
+        int budget = maxQueries(context);
+        if (scope.count() <= budget) return;
+        throw new AssertionError("Expected at most %d SQL statements but %d were prepared:%n%s".formatted(
+                budget, scope.count(), String.join(System.lineSeparator(), scope.statements())));
+    }
+
+    private static int maxQueries(ExtensionContext context) {
+        return AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), MaxQueries.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), MaxQueries.class))
+                .map(MaxQueries::value)
+                .orElseThrow();
+    }
+}
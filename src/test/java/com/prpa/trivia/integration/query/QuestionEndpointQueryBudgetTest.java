@@ -0,0 +1,112 @@
+package com.prpa.trivia.integration.query;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prpa.trivia.model.dto.CategoryDTO;
+import com.prpa.trivia.model.dto.QuestionDTO;
+import com.prpa.trivia.model.trivia.Difficulty;
+import com.prpa.trivia.model.trivia.Question;
+import com.prpa.trivia.model.trivia.Type;
+import com.prpa.trivia.repository.QuestionRepository;
+import com.prpa.trivia.resources.QuestionController;
+import com.prpa.trivia.service.QuestionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "application.query-budget.mode=FAIL")
+@AutoConfigureMockMvc
+public class QuestionEndpointQueryBudgetTest {
+
+    private static final int DEFAULT_BUDGET = 10;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    private Question saved;
+
+    @BeforeEach
+    public void setup() {
+        saved = questionService.save(question("Query budget question?", "Art", "History"));
+    }
+
+    @AfterEach
+    public void cleanup() {
+        questionRepository.deleteAll();
+    }
+
+    @Test
+    @MaxQueries(1)
+    @DisplayName("Quando GET /question/{id} deve executar no máximo uma consulta")
+    public void whenGETQuestionShouldIssueAtMostOneStatement() throws Exception {
+        mockMvc.perform(get(QuestionController.QUESTION_PATH + "/{id}", saved.getId()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @MaxQueries(2)
+    @DisplayName("Quando GET /question com limite máximo deve executar no máximo duas consultas")
+    public void whenGETQuestionPageShouldIssueAtMostTwoStatements() throws Exception {
+        mockMvc.perform(get(QuestionController.QUESTION_PATH).param("limit", "100"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @MaxQueries(2)
+    @DisplayName("Quando PUT /question/{id} com categorias existentes deve executar no máximo duas consultas")
+    public void whenPUTQuestionShouldStayWithinBudget() throws Exception {
+        mockMvc.perform(put(QuestionController.QUESTION_PATH + "/{id}", saved.getId())
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(question("Query budget question updated?", "Art", "History"))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Quando GET /question/export deve fechar o escopo de consultas da requisição assíncrona")
+    public void whenGETExportShouldNotLeakQueryScopeOnThread() throws Exception {
+        MvcResult started = mockMvc.perform(get(QuestionController.EXPORT_QUESTION_PATH))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk());
+
+        // A leaked scope keeps the default budget on this thread and would fail the statements below
+        for (int i = 0; i <= DEFAULT_BUDGET; i++) {
+            assertThatNoException().isThrownBy(() -> questionRepository.count());
+        }
+    }
+
+    private QuestionDTO question(String statement, String... categories) {
+        return QuestionDTO.builder()
+                .statement(statement)
+                .difficulty(Difficulty.EASY)
+                .type(Type.MULTIPLE)
+                .alternatives(List.of("A", "B", "C"))
+                .correctIndex(0)
+                .category(Arrays.stream(categories).map(CategoryDTO::new).toList())
+                .build();
+    }
+}
@@ -0,0 +1,40 @@
+package com.prpa.trivia.integration.resources;
+
+import com.prpa.trivia.resources.CategoryController;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+public class MetricsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Quando GET /actuator/prometheus deve expor latência, SQL por requisição, pool e caches")
+    public void whenGETPrometheusShouldExposeRequestSqlPoolAndCacheMetrics() throws Exception {
+        mockMvc.perform(get(CategoryController.CATEGORIES)).andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(
+                        "http_server_requests_seconds_bucket{error=\"none\",exception=\"none\",method=\"GET\"")))
+                .andExpect(content().string(containsString(
+                        "hibernate_request_statements_count{method=\"GET\",uri=\"/api/v1/categories\"}")))
+                .andExpect(content().string(containsString("hibernate_request_statement_time_seconds_bucket")))
+                .andExpect(content().string(containsString("hikaricp_connections_acquire_seconds_bucket")))
+                .andExpect(content().string(containsString("cache_gets_total{cache=\"questionCache\"")));
+    }
+}
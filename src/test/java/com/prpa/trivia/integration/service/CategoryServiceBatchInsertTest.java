@@ -0,0 +1,62 @@
+package com.prpa.trivia.integration.service;
+
+import com.prpa.trivia.model.trivia.Category;
+import com.prpa.trivia.repository.CategoryRepository;
+import com.prpa.trivia.service.CategoryService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class CategoryServiceBatchInsertTest {
+
+    private static final int CATEGORIES = 120;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setup() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    public void cleanup() {
+        categoryRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Quando criar várias categorias deve alocar os IDs em blocos e inserir em lotes")
+    public void whenResolveManyNewCategoriesShouldAllocateIdsInBlocksAndBatchInserts() {
+        List<String> names = IntStream.range(0, CATEGORIES).mapToObj("Batch category %d"::formatted).toList();
+
+        Map<String, Category> resolved = categoryService.resolveAll(names);
+
+        assertThat(resolved).hasSize(CATEGORIES);
+        assertThat(resolved.values()).extracting(Category::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(CATEGORIES);
+        // One lookup, one sequence call per 50 ids and one insert statement reused by every batch
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(1 + 3 + 1);
+    }
+}
@@ -0,0 +1,59 @@
+package com.prpa.trivia.integration.service;
+
+import com.prpa.trivia.model.dto.LeaderboardEntryDTO;
+import com.prpa.trivia.model.quiz.LeaderboardWindow;
+import com.prpa.trivia.repository.LeaderboardSnapshotRepository;
+import com.prpa.trivia.service.LeaderboardService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "application.leaderboard.snapshot-interval=PT1H")
+public class LeaderboardServiceTest {
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private LeaderboardSnapshotRepository leaderboardSnapshotRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    public void cleanup() {
+        leaderboardSnapshotRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Quando gravar o placar mais de uma vez deve restaurar as últimas pontuações em um novo serviço")
+    public void whenSnapshotTwiceShouldRestoreLatestScores() {
+        leaderboardService.record("alice", List.of("Art"), 3);
+        leaderboardService.record("bob", List.of(), 1);
+        leaderboardService.snapshot();
+        leaderboardService.record("bob", List.of("Art"), 5);
+        leaderboardService.snapshot();
+
+        // 2 players on the global boards and 2 on the Art boards, for each of the 3 windows.
+        assertThat(leaderboardSnapshotRepository.count()).isEqualTo(12);
+
+        LeaderboardService restored = new LeaderboardService(leaderboardSnapshotRepository, jdbcTemplate, transactionManager);
+        restored.restore();
+
+        assertThat(restored.rank(LeaderboardWindow.DAILY, null, "bob"))
+                .contains(new LeaderboardEntryDTO(1, "bob", 6));
+        assertThat(restored.rank(LeaderboardWindow.WEEKLY, "Art", "alice"))
+                .contains(new LeaderboardEntryDTO(2, "alice", 3));
+    }
+}
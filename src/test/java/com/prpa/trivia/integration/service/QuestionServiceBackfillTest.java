@@ -0,0 +1,83 @@
+package com.prpa.trivia.integration.service;
+
+import com.prpa.trivia.model.dto.CategoryDTO;
+import com.prpa.trivia.model.dto.QuestionDTO;
+import com.prpa.trivia.model.trivia.Difficulty;
+import com.prpa.trivia.model.trivia.Question;
+import com.prpa.trivia.model.trivia.StatementHash;
+import com.prpa.trivia.model.trivia.Type;
+import com.prpa.trivia.repository.QuestionRepository;
+import com.prpa.trivia.service.QuestionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class QuestionServiceBackfillTest {
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    public void cleanup() {
+        questionRepository.findAll().forEach(question -> questionService.delete(question.getId()));
+    }
+
+    @Test
+    @DisplayName("Quando existem linhas sem hash deve preencher e deixar sem hash apenas as que colidem")
+    public void whenRowsAreUnhashedShouldFillAllButCollisions() {
+        Question hashed = questionService.save(question("Which backfill row is already hashed?"));
+        Question unhashed = questionService.save(question("Which backfill row has no hash?"));
+        Question collidesWithHashed = questionService.save(question("Placeholder backfill statement one?"));
+        Question firstTwin = questionService.save(question("Which backfill row is a twin?"));
+        Question secondTwin = questionService.save(question("Placeholder backfill statement two?"));
+
+        // Rows written before the column existed, two of them normalize to a statement that is already taken
+        clearHash(unhashed.getId(), unhashed.getStatement());
+        clearHash(collidesWithHashed.getId(), "WHICH BACKFILL ROW IS ALREADY HASHED?");
+        clearHash(firstTwin.getId(), firstTwin.getStatement());
+        clearHash(secondTwin.getId(), "  which backfill   row is a TWIN?");
+
+        assertThat(questionService.backfillStatementHashes()).isEqualTo(2);
+
+        assertThat(hashOf(hashed.getId())).isEqualTo(StatementHash.of(hashed.getStatement()));
+        assertThat(hashOf(unhashed.getId())).isEqualTo(StatementHash.of(unhashed.getStatement()));
+        assertThat(hashOf(collidesWithHashed.getId())).isNull();
+        assertThat(hashOf(firstTwin.getId())).isEqualTo(StatementHash.of(firstTwin.getStatement()));
+        assertThat(hashOf(secondTwin.getId())).isNull();
+        assertThat(questionService.backfillStatementHashes()).isEqualTo(2);
+    }
+
+    private void clearHash(UUID id, String statement) {
+        jdbcTemplate.update("update question set statement = ?, statement_hash = null where id = ?", statement, id);
+    }
+
+    private String hashOf(UUID id) {
+        return jdbcTemplate.queryForObject("select statement_hash from question where id = ?", String.class, id);
+    }
+
+    private QuestionDTO question(String statement) {
+        return QuestionDTO.builder()
+                .statement(statement)
+                .difficulty(Difficulty.EASY)
+                .type(Type.MULTIPLE)
+                .alternatives(List.of("A", "B", "C"))
+                .correctIndex(0)
+                .category(List.of(new CategoryDTO("Art")))
+                .build();
+    }
+}
@@ -0,0 +1,78 @@
+package com.prpa.trivia.integration.service;
+
+import com.prpa.trivia.model.dto.CategoryDTO;
+import com.prpa.trivia.model.dto.QuestionDTO;
+import com.prpa.trivia.model.dto.QuestionImportResult;
+import com.prpa.trivia.model.trivia.Difficulty;
+import com.prpa.trivia.model.trivia.Question;
+import com.prpa.trivia.model.trivia.Type;
+import com.prpa.trivia.repository.QuestionRepository;
+import com.prpa.trivia.service.AnswerTable;
+import com.prpa.trivia.service.QuestionSampler;
+import com.prpa.trivia.service.QuestionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.willReturn;
+
+@SpringBootTest
+public class QuestionServiceBulkImportTest {
+
+    @Autowired
+    private QuestionService questionService;
+
+    @SpyBean
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private QuestionSampler questionSampler;
+
+    @Autowired
+    private AnswerTable answerTable;
+
+    @AfterEach
+    public void cleanup() {
+        questionRepository.findAll().forEach(question -> questionService.delete(question.getId()));
+    }
+
+    @Test
+    @DisplayName("Quando uma importação concorrente insere o mesmo enunciado após a checagem deve reportar apenas o item como duplicado")
+    public void whenConcurrentInsertWinsAfterHashCheckShouldReportOnlyThatItemAsDuplicate() {
+        Question concurrent = questionService.save(question("Bulk question raced?"));
+        // The hash check ran before the concurrent insert committed, so it saw none of the statements
+        willReturn(List.of()).given(questionRepository).findExistingStatementHashes(anyCollection());
+        int indexed = questionSampler.size();
+
+        List<QuestionImportResult> results = questionService.saveAll(List.of(
+                question("Bulk question first?"), question("Bulk question raced?"), question("Bulk question last?")), 10);
+
+        assertThat(results).extracting(QuestionImportResult::index).containsExactly(10, 11, 12);
+        assertThat(results).extracting(QuestionImportResult::status).containsExactly(
+                QuestionImportResult.Status.CREATED, QuestionImportResult.Status.DUPLICATE, QuestionImportResult.Status.CREATED);
+        assertThat(questionRepository.count()).isEqualTo(3);
+        assertThat(questionSampler.size()).isEqualTo(indexed + 2);
+        results.stream()
+                .filter(result -> result.status() == QuestionImportResult.Status.CREATED)
+                .forEach(result -> assertThat(answerTable.correctIndex(result.id())).isZero());
+        assertThat(answerTable.correctIndex(concurrent.getId())).isZero();
+    }
+
+    private QuestionDTO question(String statement) {
+        return QuestionDTO.builder()
+                .statement(statement)
+                .difficulty(Difficulty.EASY)
+                .type(Type.MULTIPLE)
+                .alternatives(List.of("A", "B", "C"))
+                .correctIndex(0)
+                .category(List.of(new CategoryDTO("Art")))
+                .build();
+    }
+}
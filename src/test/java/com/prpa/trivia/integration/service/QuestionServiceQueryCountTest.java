@@ -0,0 +1,125 @@
+package com.prpa.trivia.integration.service;
+
+import com.prpa.trivia.model.dto.CategoryDTO;
+import com.prpa.trivia.model.dto.QuestionDTO;
+import com.prpa.trivia.model.dto.QuestionField;
+import com.prpa.trivia.model.dto.QuestionView;
+import com.prpa.trivia.model.trivia.Difficulty;
+import com.prpa.trivia.model.trivia.Type;
+import com.prpa.trivia.repository.QuestionRepository;
+import com.prpa.trivia.resources.QuestionController;
+import com.prpa.trivia.service.QuestionService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class QuestionServiceQueryCountTest {
+
+    private static final int QUESTIONS = 150;
+    private static final long STATEMENTS_PER_PAGE = 2;
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setup() {
+        List<QuestionDTO> questions = new ArrayList<>();
+        for (int i = 0; i < QUESTIONS; i++) {
+            questions.add(QuestionDTO.builder()
+                    .statement("Query count question %d?".formatted(i))
+                    .difficulty(Difficulty.values()[i % Difficulty.values().length])
+                    .type(Type.MULTIPLE)
+                    .alternatives(List.of("A", "B", "C"))
+                    .correctIndex(0)
+                    .category(List.of(new CategoryDTO("Category %d".formatted(i % 7)), new CategoryDTO("Shared")))
+                    .build());
+        }
+        questionService.saveAll(questions, 0);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    public void cleanup() {
+        questionRepository.deleteAll();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    @DisplayName("Quando buscar uma página de questões deve executar um número constante de consultas")
+    public void whenFindAllShouldIssueConstantStatementsPerPage(int limit) {
+        List<QuestionView> page = questionService.findAll(0, Math.min(limit, QuestionController.MAX_LIMIT));
+
+        assertThat(page).hasSize(limit);
+        page.forEach(question -> assertThat(question.category()).hasSize(2));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(STATEMENTS_PER_PAGE);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    @DisplayName("Quando buscar uma página de questões a partir de um cursor deve executar um número constante de consultas")
+    public void whenFindAllAfterShouldIssueConstantStatementsPerPage(int limit) {
+        QuestionView first = questionService.findAll(0, 1).get(0);
+        statistics.clear();
+
+        List<QuestionView> page = questionService.findAllAfter(first.id(), limit);
+
+        assertThat(page).hasSize(limit);
+        assertThat(page).extracting(QuestionView::id).doesNotContain(first.id());
+        page.forEach(question -> assertThat(question.category()).hasSize(2));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(STATEMENTS_PER_PAGE);
+    }
+
+    @Test
+    @DisplayName("Quando buscar uma página com campos esparsos deve selecionar apenas as colunas pedidas sem juntar categorias")
+    public void whenFindAllWithSparseFieldsShouldSelectOnlyRequestedColumns() {
+        List<QuestionView> page = questionService.findAll(0, 10, EnumSet.of(QuestionField.ID, QuestionField.STATEMENT));
+
+        assertThat(page).hasSize(10);
+        page.forEach(question -> {
+            assertThat(question.statement()).startsWith("Query count question");
+            assertThat(question.category()).isNull();
+            assertThat(question.alternatives()).isNull();
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(STATEMENTS_PER_PAGE);
+        assertThat(Arrays.stream(statistics.getQueries())).noneMatch(query -> query.contains("join"));
+    }
+
+    @Test
+    @DisplayName("Quando buscar uma página com o campo category deve juntar as categorias de cada questão")
+    public void whenFindAllWithCategoryFieldShouldGroupCategories() {
+        List<QuestionView> page = questionService.findAll(0, 10, EnumSet.of(QuestionField.ID, QuestionField.CATEGORY));
+
+        assertThat(page).hasSize(10);
+        page.forEach(question -> {
+            assertThat(question.category()).hasSize(2);
+            assertThat(question.statement()).isNull();
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(STATEMENTS_PER_PAGE);
+    }
+}
@@ -0,0 +1,137 @@
+package com.prpa.trivia.integration.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.prpa.trivia.model.dto.CategoryDTO;
+import com.prpa.trivia.model.dto.CategoryView;
+import com.prpa.trivia.model.dto.JsonFragment;
+import com.prpa.trivia.model.dto.QuestionDTO;
+import com.prpa.trivia.model.dto.QuestionView;
+import com.prpa.trivia.model.exceptions.ResourceAlreadyExistException;
+import com.prpa.trivia.model.exceptions.ResourceVersionConflictException;
+import com.prpa.trivia.model.trivia.Category;
+import com.prpa.trivia.model.trivia.Difficulty;
+import com.prpa.trivia.model.trivia.Question;
+import com.prpa.trivia.model.trivia.Type;
+import com.prpa.trivia.repository.QuestionRepository;
+import com.prpa.trivia.resources.JsonFragments;
+import com.prpa.trivia.service.QuestionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+public class QuestionServiceUpdateTest {
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private JsonFragments jsonFragments;
+
+    @Autowired
+    private Cache<UUID, JsonFragment> questionJsonCache;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Question saved;
+
+    @BeforeEach
+    public void setup() {
+        saved = questionService.save(question("Versioned question?"));
+    }
+
+    @AfterEach
+    public void cleanup() {
+        questionRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Quando alterar com a versão atual deve incrementar a versão")
+    public void whenUpdateWithCurrentVersionShouldIncrementVersion() {
+        jsonFragments.question(QuestionView.of(saved));
+        Question updated = questionService.update(saved.getId(), question("Versioned question updated?"), saved.getVersion());
+
+        assertThat(updated.getVersion()).isEqualTo(saved.getVersion() + 1);
+        assertThat(questionRepository.findById(saved.getId()))
+                .hasValueSatisfying(found -> assertThat(found.getStatement()).isEqualTo("Versioned question updated?"));
+        assertThat(questionJsonCache.getIfPresent(saved.getId())).isNull();
+    }
+
+    @Test
+    @DisplayName("Quando uma leitura concorrente carrega a versão antiga antes do commit a próxima leitura deve retornar a nova versão")
+    public void whenConcurrentReadLoadsOldVersionBeforeCommitShouldReturnNewVersionAfterCommit() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            questionService.update(saved.getId(), question("Versioned question updated?"), saved.getVersion());
+
+            QuestionView concurrent = CompletableFuture
+                    .supplyAsync(() -> questionService.findById(saved.getId()).orElseThrow())
+                    .join();
+            assertThat(concurrent.version()).isEqualTo(saved.getVersion());
+        });
+
+        assertThat(questionService.findById(saved.getId())).hasValueSatisfying(found -> {
+            assertThat(found.version()).isEqualTo(saved.getVersion() + 1);
+            assertThat(found.statement()).isEqualTo("Versioned question updated?");
+        });
+    }
+
+    @Test
+    @DisplayName("Quando alterar com uma categoria nova deve inserir a categoria antes da transação da questão")
+    public void whenUpdateWithNewCategoryShouldInsertItBeforeQuestionTransaction() {
+        QuestionDTO changed = question("Versioned question recategorized?");
+        changed.setCategory(List.of(new CategoryDTO("Brand new category")));
+
+        Question updated = questionService.update(saved.getId(), changed, saved.getVersion());
+
+        assertThat(updated.getCategory()).extracting(Category::getName).containsExactly("Brand new category");
+        assertThat(questionService.findById(saved.getId())).hasValueSatisfying(found ->
+                assertThat(found.category()).extracting(CategoryView::name).containsExactly("Brand new category"));
+    }
+
+    @Test
+    @DisplayName("Quando alterar com uma versão desatualizada deve lançar conflito sem alterar a questão")
+    public void whenUpdateWithStaleVersionShouldThrowConflict() {
+        questionService.update(saved.getId(), question("Versioned question first?"), saved.getVersion());
+
+        assertThatThrownBy(() -> questionService.update(saved.getId(), question("Versioned question second?"), saved.getVersion()))
+                .isInstanceOf(ResourceVersionConflictException.class);
+        assertThat(questionRepository.findById(saved.getId()))
+                .hasValueSatisfying(found -> assertThat(found.getStatement()).isEqualTo("Versioned question first?"));
+    }
+
+    @Test
+    @DisplayName("Quando alterar para um enunciado de outra questão deve lançar conflito de recurso existente")
+    public void whenUpdateToExistingStatementShouldThrowAlreadyExists() {
+        questionService.save(question("Other question?"));
+
+        assertThatThrownBy(() -> questionService.update(saved.getId(), question("Other question?"), null))
+                .isInstanceOf(ResourceAlreadyExistException.class);
+    }
+
+    private QuestionDTO question(String statement) {
+        return QuestionDTO.builder()
+                .statement(statement)
+                .difficulty(Difficulty.EASY)
+                .type(Type.MULTIPLE)
+                .alternatives(List.of("A", "B", "C"))
+                .correctIndex(0)
+                .category(List.of(new CategoryDTO("Art")))
+                .build();
+    }
+}
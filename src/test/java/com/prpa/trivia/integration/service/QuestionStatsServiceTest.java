@@ -0,0 +1,117 @@
+package com.prpa.trivia.integration.service;
+
+import com.prpa.trivia.model.dto.CategoryDTO;
+import com.prpa.trivia.model.dto.CategoryStatsDTO;
+import com.prpa.trivia.model.dto.QuestionDTO;
+import com.prpa.trivia.model.dto.QuestionStatsDTO;
+import com.prpa.trivia.model.trivia.Difficulty;
+import com.prpa.trivia.model.trivia.Question;
+import com.prpa.trivia.model.trivia.Type;
+import com.prpa.trivia.repository.QuestionPickStatsRepository;
+import com.prpa.trivia.repository.QuestionRepository;
+import com.prpa.trivia.repository.QuestionStatsRepository;
+import com.prpa.trivia.service.QuestionService;
+import com.prpa.trivia.service.QuestionStatsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "application.stats.flush-interval=PT1H")
+public class QuestionStatsServiceTest {
+
+    @Autowired
+    private QuestionStatsService questionStatsService;
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private QuestionStatsRepository questionStatsRepository;
+
+    @Autowired
+    private QuestionPickStatsRepository questionPickStatsRepository;
+
+    @AfterEach
+    public void cleanup() {
+        questionStatsRepository.deleteAll();
+        questionPickStatsRepository.deleteAll();
+        questionRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Quando gravar as estatísticas mais de uma vez deve somar apenas as novas contagens")
+    public void whenFlushTwiceShouldAccumulateOnlyNewCounts() {
+        Question first = questionService.save(question("Stats question one?", "Stats"));
+        Question second = questionService.save(question("Stats question two?", "Stats"));
+
+        questionStatsService.recordServed(first.getId());
+        questionStatsService.recordAnswer(first.getId(), 0, true);
+        questionStatsService.recordAnswer(first.getId(), 2, false);
+        questionStatsService.flush();
+
+        questionStatsService.recordServed(first.getId());
+        questionStatsService.recordAnswer(first.getId(), 0, true);
+        questionStatsService.recordAnswer(second.getId(), 1, false);
+        questionStatsService.flush();
+        questionStatsService.flush();
+
+        QuestionStatsDTO stats = questionStatsService.findByQuestion(first.getId());
+        assertThat(stats.served()).isEqualTo(2);
+        assertThat(stats.correct()).isEqualTo(2);
+        assertThat(stats.wrong()).isEqualTo(1);
+        assertThat(stats.picks()).isEqualTo(Map.of(0, 2L, 2, 1L));
+
+        Long categoryId = first.getCategory().get(0).getId();
+        CategoryStatsDTO categoryStats = questionStatsService.findByCategory(categoryId);
+        assertThat(categoryStats.questions()).isEqualTo(2);
+        assertThat(categoryStats.correct()).isEqualTo(2);
+        assertThat(categoryStats.wrong()).isEqualTo(2);
+        assertThat(categoryStats.accuracy()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("Quando uma questão fica sem uso ou é removida deve liberar os contadores sem perder contagens")
+    public void whenQuestionIsIdleOrDeletedShouldReleaseCounters() {
+        Question idle = questionService.save(question("Stats idle question?", "Stats"));
+        Question deleted = questionService.save(question("Stats deleted question?", "Stats"));
+
+        questionStatsService.recordAnswer(idle.getId(), 1, true);
+        questionStatsService.recordServed(deleted.getId());
+        questionService.delete(deleted.getId());
+        assertThat(questionStatsService.size()).isEqualTo(1);
+
+        questionStatsService.flush();
+        questionStatsService.flush();
+        assertThat(questionStatsService.size()).isZero();
+
+        questionStatsService.recordAnswer(idle.getId(), 1, false);
+        questionStatsService.flush();
+
+        QuestionStatsDTO stats = questionStatsService.findByQuestion(idle.getId());
+        assertThat(stats.correct()).isEqualTo(1);
+        assertThat(stats.wrong()).isEqualTo(1);
+        assertThat(stats.picks()).isEqualTo(Map.of(1, 2L));
+        assertThat(questionStatsRepository.findById(deleted.getId())).isEmpty();
+    }
+
+    private QuestionDTO question(String statement, String category) {
+        return QuestionDTO.builder()
+                .statement(statement)
+                .difficulty(Difficulty.EASY)
+                .type(Type.MULTIPLE)
+                .alternatives(List.of("A", "B", "C"))
+                .correctIndex(0)
+                .category(List.of(new CategoryDTO(category)))
+                .build();
+    }
+}
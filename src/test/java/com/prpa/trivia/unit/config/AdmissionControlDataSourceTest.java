@@ -0,0 +1,78 @@
+package com.prpa.trivia.unit.config;
+
+import com.prpa.trivia.config.AdmissionControlDataSource;
+import com.prpa.trivia.config.ExecutionConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+public class AdmissionControlDataSourceTest {
+
+    private DataSource target;
+    private AdmissionControlDataSource dataSource;
+
+    @BeforeEach
+    public void setup() throws SQLException {
+        target = mock(DataSource.class);
+        given(target.getConnection()).willAnswer(invocation -> mock(Connection.class));
+        dataSource = new AdmissionControlDataSource(target, 2, Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("Quando todas as permissões estão em uso deve esperar e falhar após o tempo limite")
+    public void whenAllPermitsAreHeldShouldTimeOut() throws SQLException {
+        Connection first = dataSource.getConnection();
+        dataSource.getConnection();
+
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+        verify(target, times(2)).getConnection();
+
+        first.close();
+        assertThat(dataSource.getConnection()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Quando a conexão é fechada mais de uma vez deve liberar a permissão apenas uma vez")
+    public void whenConnectionIsClosedTwiceShouldReleaseOnce() throws SQLException {
+        Connection connection = dataSource.getConnection();
+
+        connection.close();
+        connection.close();
+
+        assertThat(dataSource.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Quando o pool falha ao entregar a conexão deve devolver a permissão")
+    public void whenPoolFailsShouldReleasePermit() throws SQLException {
+        given(target.getConnection()).willThrow(new SQLException("pool"));
+
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLException.class).hasMessage("pool");
+        assertThat(dataSource.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Quando virtual threads estão habilitadas deve envolver o data source apenas se o runtime as suporta")
+    public void whenVirtualThreadsEnabledShouldWrapOnlyOnSupportingRuntime() {
+        boolean virtualThreads = Runtime.version().feature() >= 21;
+
+        new ApplicationContextRunner()
+                .withUserConfiguration(ExecutionConfig.class)
+                .withBean(DataSource.class, () -> target)
+                .withPropertyValues("spring.threads.virtual.enabled=true")
+                .run(context -> assertThat(context.getBean(DataSource.class) instanceof AdmissionControlDataSource)
+                        .isEqualTo(virtualThreads));
+    }
+}
@@ -0,0 +1,49 @@
+package com.prpa.trivia.unit.config;
+
+import com.prpa.trivia.config.QueryBudgetExceededException;
+import com.prpa.trivia.config.QueryBudgetInspector;
+import com.prpa.trivia.config.QueryCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class QueryCounterTest {
+
+    private final QueryBudgetInspector inspector = new QueryBudgetInspector();
+
+    @Test
+    @DisplayName("Quando escopos estão aninhados cada um deve contar os comandos executados enquanto aberto")
+    public void whenScopesAreNestedEachShouldCountWhileOpen() {
+        try (QueryCounter.Scope outer = QueryCounter.open("outer", -1, true)) {
+            inspector.inspect("select 1");
+            try (QueryCounter.Scope inner = QueryCounter.open("inner", -1, false)) {
+                inspector.inspect("select 2");
+                assertThat(inner.count()).isEqualTo(1);
+                assertThat(inner.statements()).isEmpty();
+            }
+            inspector.inspect("select 3");
+
+            assertThat(outer.count()).isEqualTo(3);
+            assertThat(outer.statements()).containsExactly("select 1", "select 2", "select 3");
+        }
+    }
+
+    @Test
+    @DisplayName("Quando o orçamento é excedido o comando excedente deve falhar")
+    public void whenBudgetIsExceededShouldThrowOnExceedingStatement() {
+        try (QueryCounter.Scope scope = QueryCounter.open("GET /api/v1/categories", 1, false)) {
+            assertThat(inspector.inspect("select 1")).isEqualTo("select 1");
+            assertThatThrownBy(() -> inspector.inspect("select 2"))
+                    .isInstanceOf(QueryBudgetExceededException.class)
+                    .hasMessageContaining("GET /api/v1/categories issued 2 SQL statements, the budget is 1.");
+        }
+    }
+
+    @Test
+    @DisplayName("Quando não há escopo aberto o comando não deve ser contado")
+    public void whenNoScopeIsOpenShouldPassThrough() {
+        assertThat(inspector.inspect("select 1")).isEqualTo("select 1");
+    }
+}
@@ -0,0 +1,20 @@
+package com.prpa.trivia.unit.model;
+
+import com.prpa.trivia.model.trivia.StatementHash;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StatementHashTest {
+
+    @Test
+    @DisplayName("Quando enunciados diferem apenas em caixa e espaços devem ter o mesmo hash")
+    public void whenStatementsDifferOnlyInCaseAndWhitespaceShouldShareHash() {
+        String hash = StatementHash.of("What is the capital of France?");
+
+        assertThat(hash).hasSize(StatementHash.LENGTH).matches("[0-9a-f]+");
+        assertThat(StatementHash.of("  what is the\tcapital  of\nFRANCE? ")).isEqualTo(hash);
+        assertThat(StatementHash.of("What is the capital of Spain?")).isNotEqualTo(hash);
+    }
+}
@@ -0,0 +1,73 @@
+package com.prpa.trivia.unit.model;
+
+import com.prpa.trivia.model.trivia.UuidV7Generator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class UuidV7GeneratorTest {
+
+    @Test
+    @DisplayName("Quando gerar um UUID deve ter versão 7, variante RFC e o instante atual")
+    public void whenGenerateShouldHaveVersion7AndCurrentTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7Generator.next();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(UuidV7Generator.timestampOf(uuid)).isBetween(before, System.currentTimeMillis() + 1);
+        assertThatThrownBy(() -> UuidV7Generator.timestampOf(UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Quando gerar UUIDs em sequência deve produzir valores estritamente crescentes")
+    public void whenGenerateInSequenceShouldBeStrictlyIncreasing() {
+        UUID previous = UuidV7Generator.next();
+        for (int i = 0; i < 100_000; i++) {
+            UUID next = UuidV7Generator.next();
+            assertThat(next).isGreaterThan(previous);
+            assertThat(next.toString()).isGreaterThan(previous.toString());
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("Quando gerar UUIDs em várias threads não deve haver repetição e cada thread deve ver valores crescentes")
+    public void whenGenerateConcurrentlyShouldBeUniqueAndMonotonicPerThread() throws Exception {
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<List<UUID>>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    List<UUID> generated = new ArrayList<>(perThread);
+                    for (int i = 0; i < perThread; i++) generated.add(UuidV7Generator.next());
+                    return generated;
+                }));
+            }
+
+            Set<UUID> all = new HashSet<>();
+            for (Future<List<UUID>> future : futures) {
+                List<UUID> generated = future.get();
+                assertThat(generated).isSorted();
+                all.addAll(generated);
+            }
+            assertThat(all).hasSize(threads * perThread);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.prpa.trivia.unit.resources;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prpa.trivia.model.dto.AnswerCheckDTO;
+import com.prpa.trivia.model.dto.AnswerCheckReport;
+import com.prpa.trivia.model.dto.AnswerDTO;
+import com.prpa.trivia.resources.AnswerController;
+import com.prpa.trivia.service.QuestionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.MessageSource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import static com.prpa.trivia.model.dto.AnswerCheckReport.Status.*;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(AnswerController.class)
+public class AnswerControllerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MessageSource messageSource;
+
+    @MockBean
+    private QuestionService questionService;
+
+    @Test
+    @DisplayName("Quando POST /answers/check deve retornar a correção de cada resposta na ordem do lote 200 OK")
+    public void whenPOSTAnswerCheckShouldReturn200OKWithReport() throws Exception {
+        List<AnswerDTO> answers = List.of(
+                new AnswerDTO(UUID.randomUUID(), 0),
+                new AnswerDTO(UUID.randomUUID(), 2),
+                new AnswerDTO(UUID.randomUUID(), 1));
+        given(questionService.checkAnswers(eq(answers)))
+                .willReturn(AnswerCheckReport.of(new AnswerCheckReport.Status[]{CORRECT, INCORRECT, UNKNOWN}));
+
+        mockMvc.perform(post(AnswerController.CHECK_ANSWERS_PATH)
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AnswerCheckDTO(answers))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.correct", equalTo(1)))
+                .andExpect(jsonPath("$.incorrect", equalTo(1)))
+                .andExpect(jsonPath("$.unknown", equalTo(1)))
+                .andExpect(jsonPath("$.items", hasSize(3)))
+                .andExpect(jsonPath("$.items[1]", equalTo("INCORRECT")))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("Quando POST /answers/check com lote vazio deve retornar 400 BAD_REQUEST")
+    public void whenPOSTEmptyAnswerCheckShouldReturn400BAD_REQUEST() throws Exception {
+        mockMvc.perform(post(AnswerController.CHECK_ANSWERS_PATH)
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AnswerCheckDTO(List.of()))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0].field", equalTo("answers")))
+                .andExpect(jsonPath("$.errors[0].reason", equalTo(message("error.answer.empty.answers.message"))))
+                .andDo(print());
+    }
+
+    public String message(String message, Object... objects) {
+        return messageSource.getMessage(message, objects, Locale.getDefault());
+    }
+}
@@ -0,0 +1,56 @@
+package com.prpa.trivia.unit.resources;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.prpa.trivia.resources.CacheController;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(CacheController.class)
+@Import(CacheControllerTest.CacheTestConfig.class)
+public class CacheControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private Cache<String, String> testCache;
+
+    @Test
+    @DisplayName("Quando GET /caches deve retornar os contadores de cada cache 200 OK")
+    public void whenGETCachesShouldReturn200OKWithCounters() throws Exception {
+        testCache.put("key", "value");
+        testCache.getIfPresent("key");
+        testCache.getIfPresent("missing");
+
+        mockMvc.perform(get(CacheController.CACHES_PATH)
+                        .accept(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.testCache.size", equalTo(1)))
+                .andExpect(jsonPath("$.testCache.hitCount", equalTo(1)))
+                .andExpect(jsonPath("$.testCache.missCount", equalTo(1)))
+                .andExpect(jsonPath("$.testCache.hitRate", equalTo(0.5)))
+                .andExpect(jsonPath("$.testCache.evictionCount", equalTo(0)));
+    }
+
+    @TestConfiguration
+    static class CacheTestConfig {
+
+        @Bean
+        public Cache<String, String> testCache() {
+            return Caffeine.newBuilder().recordStats().build();
+        }
+    }
+}
@@ -1,18 +1,26 @@
 package com.prpa.trivia.unit.resources;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.prpa.trivia.config.CacheConfig;
 import com.prpa.trivia.model.trivia.Category;
 import com.prpa.trivia.model.dto.CategoryDTO;
+import com.prpa.trivia.model.dto.CategoryView;
+import com.prpa.trivia.model.dto.JsonFragment;
 import com.prpa.trivia.model.exceptions.FieldReason;
 import com.prpa.trivia.resources.CategoryController;
+import com.prpa.trivia.resources.JsonFragments;
+import com.prpa.trivia.resources.PageCursor;
 import com.prpa.trivia.service.CategoryService;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.MessageSource;
+import org.springframework.context.annotation.Import;
 import org.springframework.context.support.DelegatingMessageSource;
 import org.springframework.context.support.ResourceBundleMessageSource;
 import org.springframework.http.HttpStatus;
@@ -27,17 +35,21 @@ import java.util.Optional;
 
 import static com.prpa.trivia.resources.CategoryController.API;
 import static com.prpa.trivia.resources.CategoryController.CATEGORIES;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(CategoryController.class)
+@Import({CacheConfig.class, JsonFragments.class})
 public class CategoryControllerTest {
 
     private final Integer DEFAULT_LIMIT = CategoryController.DEFAULT_LIMIT;
@@ -51,6 +63,9 @@ public class CategoryControllerTest {
     @Autowired
     private MessageSource messageSource;
 
+    @Autowired
+    private Cache<Long, JsonFragment> categoryJsonCache;
+
     @MockBean
     private CategoryService categoryService;
 
@@ -59,6 +74,11 @@ public class CategoryControllerTest {
         objectMapper = new ObjectMapper();
     }
 
+    @BeforeEach
+    public void setup() {
+        categoryJsonCache.invalidateAll();
+    }
+
     // ***************
     // GET /categories/{id}
     // ***************
@@ -69,8 +89,8 @@ public class CategoryControllerTest {
         final Long id = 1L;
         String categoryName = "Art";
 
-        given(categoryService.findById(eq(id)))
-                .willReturn(Optional.of(new Category(id, categoryName)));
+        given(categoryService.findViewById(eq(id)))
+                .willReturn(Optional.of(new CategoryView(id, categoryName)));
 
         URI getURI = UriComponentsBuilder.fromPath(CATEGORIES).path("/{id}").build(id);
         mockMvc.perform(get(getURI)
@@ -81,13 +101,37 @@ public class CategoryControllerTest {
                 .andExpect(jsonPath("$.name", equalTo(categoryName)));
     }
 
+    @Test
+    @DisplayName("Quando GET /categories/{id} repetido na mesma geração deve responder a partir do cache")
+    public void whenGETCategoryTwiceInSameGenerationShouldServeFromCache() throws Exception {
+        final Long id = 1L;
+        given(categoryService.generation()).willReturn(4L);
+        given(categoryService.findViewById(eq(id)))
+                .willReturn(Optional.of(new CategoryView(id, "Art")));
+
+        URI getURI = UriComponentsBuilder.fromPath(CATEGORIES).path("/{id}").build(id);
+        mockMvc.perform(get(getURI).accept(APPLICATION_JSON)).andExpect(status().isOk());
+        mockMvc.perform(get(getURI).accept(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name", equalTo("Art")));
+        verify(categoryService, times(1)).findViewById(eq(id));
+
+        // A rename committed in between bumps the generation and the cached bytes are no longer served
+        given(categoryService.generation()).willReturn(5L);
+        given(categoryService.findViewById(eq(id)))
+                .willReturn(Optional.of(new CategoryView(id, "Arts")));
+        mockMvc.perform(get(getURI).accept(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name", equalTo("Arts")));
+    }
+
     @Test
     @DisplayName("Quando GET /categories/{id} com ID inválido deve retornar 400 BAD_REQUEST")
     public void whenGETCategoryWithInvalidIDShouldReturn400BAD_REQUEST() throws Exception {
         final long invalidId = 1L;
         String expectedDetail = message("error.resource.notfound.message", "id");
 
-        given(categoryService.findById(eq(invalidId)))
+        given(categoryService.findViewById(eq(invalidId)))
                 .willReturn(Optional.empty());
 
         URI getURI = UriComponentsBuilder.fromPath(CATEGORIES).path("/{id}").build(invalidId);
@@ -112,12 +156,12 @@ public class CategoryControllerTest {
     public void whenGETCategoriesWithNoParamShouldReturn200OKDefaultLimitAndOffset() throws Exception {
         final int OFFSET = DEFAULT_OFFSET, LIMIT = DEFAULT_LIMIT;
 
-        List<Category> categories = new ArrayList<>();
+        List<CategoryView> categories = new ArrayList<>();
         for (int i = 0; i < 100; i++) {
-            categories.add(new Category((long) i, "Category[%d]".formatted(i)));
+            categories.add(new CategoryView((long) i, "Category[%d]".formatted(i)));
         }
 
-        Category firstOffsetValue = categories.get(OFFSET);
+        CategoryView firstOffsetValue = categories.get(OFFSET);
         given(categoryService.findAll(eq(OFFSET), eq(LIMIT)))
                 .willReturn(categories.subList(OFFSET, OFFSET + LIMIT));
 
@@ -126,8 +170,8 @@ public class CategoryControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").exists())
                 .andExpect(jsonPath("$", hasSize(LIMIT)))
-                .andExpect(jsonPath("$[0].id", equalTo(firstOffsetValue.getId().intValue())))
-                .andExpect(jsonPath("$[0].name", equalTo(firstOffsetValue.getName())));
+                .andExpect(jsonPath("$[0].id", equalTo(firstOffsetValue.id().intValue())))
+                .andExpect(jsonPath("$[0].name", equalTo(firstOffsetValue.name())));
     }
 
     @Test
@@ -135,12 +179,12 @@ public class CategoryControllerTest {
     public void whenGETCategoriesWithLimitOffsetParamShouldReturn200OKWithLimitAndOffset() throws Exception {
         final int OFFSET = 20, LIMIT = 10;
 
-        List<Category> categories = new ArrayList<>();
+        List<CategoryView> categories = new ArrayList<>();
         for (int i = 0; i < 100; i++) {
-            categories.add(new Category((long) i, "Category[%d]".formatted(i)));
+            categories.add(new CategoryView((long) i, "Category[%d]".formatted(i)));
         }
 
-        Category firstOffsetValue = categories.get(OFFSET);
+        CategoryView firstOffsetValue = categories.get(OFFSET);
         given(categoryService.findAll(eq(OFFSET), eq(LIMIT)))
                 .willReturn(categories.subList(OFFSET, OFFSET + LIMIT));
 
@@ -151,8 +195,8 @@ public class CategoryControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").exists())
                 .andExpect(jsonPath("$", hasSize(LIMIT)))
-                .andExpect(jsonPath("$[0].id", equalTo(firstOffsetValue.getId().intValue())))
-                .andExpect(jsonPath("$[0].name", equalTo(firstOffsetValue.getName())));
+                .andExpect(jsonPath("$[0].id", equalTo(firstOffsetValue.id().intValue())))
+                .andExpect(jsonPath("$[0].name", equalTo(firstOffsetValue.name())));
     }
 
     @Test
@@ -160,12 +204,12 @@ public class CategoryControllerTest {
     public void whenGETCategoriesWithInvalidParamShouldReturn200OKDefaultLimitAndOffset() throws Exception {
         final int INVALID_OFFSET = -DEFAULT_OFFSET, INVALID_LIMIT = -DEFAULT_LIMIT;
 
-        List<Category> categories = new ArrayList<>();
+        List<CategoryView> categories = new ArrayList<>();
         for (int i = 0; i < 100; i++) {
-            categories.add(new Category((long) i, "Category[%d]".formatted(i)));
+            categories.add(new CategoryView((long) i, "Category[%d]".formatted(i)));
         }
 
-        Category firstOffsetValue = categories.get(DEFAULT_OFFSET);
+        CategoryView firstOffsetValue = categories.get(DEFAULT_OFFSET);
         given(categoryService.findAll(DEFAULT_OFFSET, DEFAULT_LIMIT))
                 .willReturn(categories.subList(DEFAULT_OFFSET, DEFAULT_LIMIT));
 
@@ -176,12 +220,49 @@ public class CategoryControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").exists())
                 .andExpect(jsonPath("$", hasSize(DEFAULT_LIMIT)))
-                .andExpect(jsonPath("$[0].id", equalTo(firstOffsetValue.getId().intValue())))
-                .andExpect(jsonPath("$[0].name", equalTo(firstOffsetValue.getName())))
+                .andExpect(jsonPath("$[0].id", equalTo(firstOffsetValue.id().intValue())))
+                .andExpect(jsonPath("$[0].name", equalTo(firstOffsetValue.name())))
                 .andDo(print());
 
     }
 
+    @Test
+    @DisplayName("Quando GET /categories com cursor 'after' deve retornar a página seguinte e o cursor da próxima no header Link")
+    public void whenGETCategoriesWithCursorShouldReturn200OKWithNextLink() throws Exception {
+        final long AFTER = 20L;
+        final int LIMIT = 10;
+
+        List<CategoryView> categories = new ArrayList<>();
+        for (long i = AFTER + 1; i <= AFTER + LIMIT; i++) {
+            categories.add(new CategoryView(i, "Category[%d]".formatted(i)));
+        }
+
+        given(categoryService.findAllAfter(eq(AFTER), eq(LIMIT))).willReturn(categories);
+
+        mockMvc.perform(get(CATEGORIES)
+                        .accept(APPLICATION_JSON)
+                        .param("after", PageCursor.encode(AFTER))
+                        .param("limit", String.valueOf(LIMIT)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(LIMIT)))
+                .andExpect(jsonPath("$[0].id", equalTo((int) AFTER + 1)))
+                .andExpect(header().string("Link", containsString("after=" + PageCursor.encode(AFTER + LIMIT))));
+    }
+
+    @Test
+    @DisplayName("Quando GET /categories com cursor 'after' inválido deve retornar 400 BAD_REQUEST")
+    public void whenGETCategoriesWithInvalidCursorShouldReturn400BAD_REQUEST() throws Exception {
+        String expectedDetail = message("error.parameter.invalid.message", "after");
+
+        mockMvc.perform(get(CATEGORIES)
+                        .accept(APPLICATION_JSON)
+                        .param("after", "invalid-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.title", equalTo(message("error.parameter.invalid.title"))))
+                .andExpect(jsonPath("$.detail", equalTo(expectedDetail)))
+                .andExpect(jsonPath("$.status", equalTo(HttpStatus.BAD_REQUEST.value())));
+    }
+
     // ***************
     // POST /categories
     // ***************
@@ -0,0 +1,111 @@
+package com.prpa.trivia.unit.resources;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.prpa.trivia.model.dto.CategoryView;
+import com.prpa.trivia.model.dto.JsonFragment;
+import com.prpa.trivia.model.dto.QuestionView;
+import com.prpa.trivia.model.trivia.Category;
+import com.prpa.trivia.model.trivia.Difficulty;
+import com.prpa.trivia.model.trivia.Question;
+import com.prpa.trivia.model.trivia.Type;
+import com.prpa.trivia.resources.JsonFragments;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JsonFragmentsTest {
+
+    private static final Category ART = new Category(1L, "Art");
+    private static final Category HISTORY = new Category(2L, "History");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private Cache<UUID, JsonFragment> questionJsonCache;
+    private Cache<Long, JsonFragment> categoryJsonCache;
+    private JsonFragments jsonFragments;
+
+    @BeforeEach
+    public void setup() {
+        questionJsonCache = Caffeine.newBuilder().build();
+        categoryJsonCache = Caffeine.newBuilder().build();
+        jsonFragments = new JsonFragments(objectMapper, questionJsonCache, categoryJsonCache);
+    }
+
+    @Test
+    @DisplayName("Quando montar uma lista a partir dos fragmentos deve gerar o mesmo JSON das entidades")
+    public void whenConcatenatingFragmentsShouldMatchEntityJson() throws Exception {
+        List<Question> questions = List.of(question(0L, "First?"), question(0L, "Second?"), question(0L, "Third?"));
+
+        assertThat(jsonFragments.questions(questions.stream().map(QuestionView::of).toList()))
+                .isEqualTo(objectMapper.writeValueAsBytes(questions));
+        assertThat(jsonFragments.questions(List.of())).isEqualTo(objectMapper.writeValueAsBytes(List.of()));
+        assertThat(jsonFragments.categories(List.of(CategoryView.of(ART), CategoryView.of(HISTORY))))
+                .isEqualTo(objectMapper.writeValueAsBytes(List.of(ART, HISTORY)));
+    }
+
+    @Test
+    @DisplayName("Quando a versão da questão muda deve serializar novamente e nunca voltar para uma versão anterior")
+    public void whenVersionChangesShouldReserializeAndKeepNewest() {
+        Question question = question(1L, "Versioned?");
+        QuestionView view = QuestionView.of(question);
+        JsonFragment first = jsonFragments.question(view);
+        assertThat(jsonFragments.question(view)).isSameAs(first);
+
+        question.setStatement("Versioned updated?");
+        question.setVersion(2L);
+        JsonFragment second = jsonFragments.question(QuestionView.of(question));
+        assertThat(second.version()).isEqualTo(2L);
+        assertThat(new String(second.json())).contains("Versioned updated?");
+
+        assertThat(jsonFragments.question(view).version()).isEqualTo(2L);
+        assertThat(questionJsonCache.getIfPresent(question.getId())).isSameAs(second);
+    }
+
+    @Test
+    @DisplayName("Quando uma categoria é renomeada sem mudar a versão da questão deve serializar novamente")
+    public void whenCategoryIsRenamedWithSameVersionShouldReserialize() {
+        Question question = question(1L, "Renamed category?");
+        JsonFragment stale = jsonFragments.question(QuestionView.of(question));
+
+        question.setCategory(List.of(new Category(ART.getId(), "Arts"), HISTORY));
+        JsonFragment fresh = jsonFragments.question(QuestionView.of(question));
+
+        assertThat(fresh).isNotSameAs(stale);
+        assertThat(new String(fresh.json())).contains("Arts");
+        assertThat(questionJsonCache.getIfPresent(question.getId())).isSameAs(fresh);
+    }
+
+    @Test
+    @DisplayName("Quando a geração das categorias muda não deve servir o JSON em cache")
+    public void whenCategoryGenerationChangesShouldNotServeCachedJson() {
+        CategoryView art = CategoryView.of(ART);
+        byte[] json = jsonFragments.category(art, 3L);
+
+        assertThat(jsonFragments.cachedCategory(ART.getId(), 3L)).hasValue(json);
+        assertThat(jsonFragments.cachedCategory(ART.getId(), 4L)).isEmpty();
+
+        // A reader that started before the rename must not replace what a newer reader cached
+        byte[] renamed = jsonFragments.category(new CategoryView(ART.getId(), "Arts"), 4L);
+        jsonFragments.category(art, 3L);
+        assertThat(jsonFragments.cachedCategory(ART.getId(), 4L)).hasValue(renamed);
+    }
+
+    private Question question(Long version, String statement) {
+        return Question.builder()
+                .id(UUID.randomUUID())
+                .statement(statement)
+                .difficulty(Difficulty.EASY)
+                .type(Type.MULTIPLE)
+                .alternatives(List.of("A", "B"))
+                .correctIndex(0)
+                .category(List.of(ART, HISTORY))
+                .version(version)
+                .build();
+    }
+}
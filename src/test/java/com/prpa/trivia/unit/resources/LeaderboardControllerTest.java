@@ -0,0 +1,87 @@
+package com.prpa.trivia.unit.resources;
+
+import com.prpa.trivia.model.dto.LeaderboardEntryDTO;
+import com.prpa.trivia.model.quiz.LeaderboardWindow;
+import com.prpa.trivia.resources.LeaderboardController;
+import com.prpa.trivia.service.LeaderboardService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(LeaderboardController.class)
+public class LeaderboardControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private LeaderboardService leaderboardService;
+
+    @Test
+    @DisplayName("Quando GET /leaderboard com limit acima do máximo deve limitar a página e retornar 200 OK")
+    public void whenGETLeaderboardWithLimitAboveMaxShouldClampAndReturn200OK() throws Exception {
+        given(leaderboardService.top(eq(LeaderboardWindow.WEEKLY), eq("Art"), any(Pageable.class)))
+                .willReturn(List.of(new LeaderboardEntryDTO(1, "alice", 9), new LeaderboardEntryDTO(2, "bob", 4)));
+
+        mockMvc.perform(get(LeaderboardController.LEADERBOARD_PATH)
+                        .param("window", "WEEKLY")
+                        .param("category", "Art")
+                        .param("limit", "500")
+                        .accept(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].player", equalTo("alice")))
+                .andExpect(jsonPath("$[1].rank", equalTo(2)))
+                .andDo(print());
+
+        verify(leaderboardService).top(eq(LeaderboardWindow.WEEKLY), eq("Art"),
+                argThat(page -> page.getOffset() == 0 && page.getPageSize() == LeaderboardController.MAX_LIMIT));
+    }
+
+    @Test
+    @DisplayName("Quando GET /leaderboard/players/{player} deve retornar a posição do jogador 200 OK")
+    public void whenGETPlayerRankShouldReturn200OK() throws Exception {
+        given(leaderboardService.rank(eq(LeaderboardWindow.ALL_TIME), isNull(), eq("alice")))
+                .willReturn(Optional.of(new LeaderboardEntryDTO(3, "alice", 12)));
+
+        mockMvc.perform(get(UriComponentsBuilder.fromPath(LeaderboardController.LEADERBOARD_PLAYER_PATH).build("alice"))
+                        .accept(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rank", equalTo(3)))
+                .andExpect(jsonPath("$.score", equalTo(12)))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("Quando GET /leaderboard/players/{player} com jogador fora do placar deve retornar 400 BAD_REQUEST")
+    public void whenGETPlayerRankWithUnknownPlayerShouldReturn400BAD_REQUEST() throws Exception {
+        given(leaderboardService.rank(any(), any(), any())).willReturn(Optional.empty());
+
+        mockMvc.perform(get(UriComponentsBuilder.fromPath(LeaderboardController.LEADERBOARD_PLAYER_PATH).build("nobody"))
+                        .accept(APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andDo(print());
+    }
+}
@@ -1,13 +1,26 @@
 package com.prpa.trivia.unit.resources;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.prpa.trivia.config.CacheConfig;
 import com.prpa.trivia.model.trivia.Category;
 import com.prpa.trivia.model.trivia.Difficulty;
 import com.prpa.trivia.model.trivia.Question;
 import com.prpa.trivia.model.trivia.Type;
 import com.prpa.trivia.model.dto.CategoryDTO;
+import com.prpa.trivia.model.dto.JsonFragment;
 import com.prpa.trivia.model.dto.QuestionDTO;
+import com.prpa.trivia.model.dto.QuestionField;
+import com.prpa.trivia.model.dto.QuestionFilter;
+import com.prpa.trivia.model.dto.QuestionView;
+import com.prpa.trivia.model.dto.SimilarQuestion;
+import com.prpa.trivia.model.dto.QuestionImportResult;
 import com.prpa.trivia.model.exceptions.FieldReason;
+import com.prpa.trivia.model.exceptions.ResourceAlreadyExistException;
+import com.prpa.trivia.model.exceptions.ResourceVersionConflictException;
+import com.prpa.trivia.model.exceptions.SpecificResourceNotFoundException;
+import com.prpa.trivia.resources.JsonFragments;
+import com.prpa.trivia.resources.PageCursor;
 import com.prpa.trivia.resources.QuestionController;
 import com.prpa.trivia.service.QuestionService;
 import org.junit.jupiter.api.BeforeAll;
@@ -18,26 +31,38 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.MessageSource;
+import org.springframework.context.annotation.Import;
 import org.springframework.context.support.DelegatingMessageSource;
 import org.springframework.context.support.ResourceBundleMessageSource;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
 import java.util.*;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.springframework.web.util.UriComponentsBuilder.fromPath;
 
 @WebMvcTest(QuestionController.class)
+@Import({CacheConfig.class, JsonFragments.class})
 public class QuestionControllerTest {
 
     private static final Integer DEFAULT_LIMIT = QuestionController.DEFAULT_LIMIT;
@@ -65,6 +90,9 @@ public class QuestionControllerTest {
     @Autowired
     private MessageSource messageSource;
 
+    @Autowired
+    private Cache<UUID, JsonFragment> questionJsonCache;
+
     @MockBean
     private QuestionService questionService;
 
@@ -75,6 +103,7 @@ public class QuestionControllerTest {
 
     @BeforeEach
     public void setup() {
+        questionJsonCache.invalidateAll();
         QUESTION = Question.builder()
                 .id(QUESTION_ID)
                 .statement(QUESTION_STATEMENT)
@@ -95,7 +124,7 @@ public class QuestionControllerTest {
     public void whenGETQuestionWithValidIDShouldReturn200OK() throws Exception {
 
         given(questionService.findById(eq(QUESTION_ID)))
-                .willReturn(Optional.of(QUESTION));
+                .willReturn(Optional.of(QuestionView.of(QUESTION)));
 
         URI getURI = QUESTION_ID_PATH.build(QUESTION_ID);
         mockMvc.perform(get(getURI)
@@ -149,6 +178,92 @@ public class QuestionControllerTest {
                 .andDo(print());
     }
 
+    @Test
+    @DisplayName("Quando GET /question/{id} deve retornar o ETag com a versão da questão")
+    public void whenGETQuestionShouldReturnVersionETag() throws Exception {
+        QUESTION.setVersion(3L);
+        given(questionService.findById(eq(QUESTION_ID))).willReturn(Optional.of(QuestionView.of(QUESTION)));
+
+        mockMvc.perform(get(QUESTION_ID_PATH.build(QUESTION_ID))
+                        .accept(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(jsonPath("$.version").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Quando GET /question/{id} com If-None-Match da versão atual deve retornar 304 NOT_MODIFIED sem corpo")
+    public void whenGETQuestionWithCurrentETagShouldReturn304NOT_MODIFIED() throws Exception {
+        QUESTION.setVersion(3L);
+        given(questionService.findById(eq(QUESTION_ID))).willReturn(Optional.of(QuestionView.of(QUESTION)));
+
+        mockMvc.perform(get(QUESTION_ID_PATH.build(QUESTION_ID))
+                        .accept(APPLICATION_JSON)
+                        .header("If-None-Match", "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Quando GET /question/{id} com 'fields' e If-None-Match da questão inteira deve retornar 200 OK com os campos pedidos")
+    public void whenGETSparseQuestionWithFullETagShouldReturn200OK() throws Exception {
+        Set<QuestionField> fields = EnumSet.of(QuestionField.ID, QuestionField.STATEMENT);
+        QUESTION.setVersion(3L);
+        given(questionService.findById(eq(QUESTION_ID), eq(fields)))
+                .willReturn(Optional.of(QuestionView.of(QUESTION).select(fields)));
+
+        mockMvc.perform(get(QUESTION_ID_PATH.build(QUESTION_ID))
+                        .accept(APPLICATION_JSON)
+                        .param("fields", "statement")
+                        .header("If-None-Match", QuestionController.eTag(3L)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", QuestionController.eTag(3L, fields)))
+                .andExpect(jsonPath("$.statement", equalTo(QUESTION_STATEMENT)));
+
+        mockMvc.perform(get(QUESTION_ID_PATH.build(QUESTION_ID))
+                        .accept(APPLICATION_JSON)
+                        .param("fields", "statement")
+                        .header("If-None-Match", QuestionController.eTag(3L, fields)))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("Quando GET /question/{id} repetido na mesma versão deve escrever o JSON em cache sem serializar novamente")
+    public void whenGETQuestionTwiceShouldServeCachedJson() throws Exception {
+        QUESTION.setVersion(3L);
+        given(questionService.findById(eq(QUESTION_ID))).willReturn(Optional.of(QuestionView.of(QUESTION)));
+
+        JsonFragment first = null;
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get(QUESTION_ID_PATH.build(QUESTION_ID))
+                            .accept(APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(APPLICATION_JSON))
+                    .andExpect(header().string("ETag", "\"3\""))
+                    .andExpect(jsonPath("$.statement", equalTo(QUESTION_STATEMENT)));
+            if (first == null) first = questionJsonCache.getIfPresent(QUESTION_ID);
+        }
+        assertThat(questionJsonCache.getIfPresent(QUESTION_ID)).isNotNull().isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("Quando GET /question/{id} após a questão mudar de versão não deve servir o JSON em cache da versão anterior")
+    public void whenGETQuestionAfterVersionChangeShouldNotServeStaleJson() throws Exception {
+        QUESTION.setVersion(3L);
+        given(questionService.findById(eq(QUESTION_ID))).willReturn(Optional.of(QuestionView.of(QUESTION)));
+        mockMvc.perform(get(QUESTION_ID_PATH.build(QUESTION_ID)).accept(APPLICATION_JSON))
+                .andExpect(header().string("ETag", "\"3\""));
+
+        QUESTION.setVersion(4L);
+        QUESTION.setStatement("Como consertar uma bicicleta?");
+        given(questionService.findById(eq(QUESTION_ID))).willReturn(Optional.of(QuestionView.of(QUESTION)));
+
+        mockMvc.perform(get(QUESTION_ID_PATH.build(QUESTION_ID)).accept(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""))
+                .andExpect(jsonPath("$.statement", equalTo("Como consertar uma bicicleta?")));
+    }
+
     // ***************
     // GET /question
     // ***************
@@ -164,8 +279,8 @@ public class QuestionControllerTest {
         }
 
         Question firstOffsetValue = question.get(OFFSET);
-        given(questionService.findAll(eq(OFFSET), eq(LIMIT)))
-                .willReturn(question.subList(OFFSET, OFFSET + LIMIT));
+        given(questionService.findAll(eq(OFFSET), eq(LIMIT), eq(QuestionField.ALL)))
+                .willReturn(views(question.subList(OFFSET, OFFSET + LIMIT)));
 
         mockMvc.perform(get(QUESTION_PATH)
                         .accept(APPLICATION_JSON))
@@ -193,8 +308,8 @@ public class QuestionControllerTest {
         }
 
         Question firstOffsetValue = question.get(OFFSET);
-        given(questionService.findAll(eq(OFFSET), eq(LIMIT)))
-                .willReturn(question.subList(OFFSET, OFFSET + LIMIT));
+        given(questionService.findAll(eq(OFFSET), eq(LIMIT), eq(QuestionField.ALL)))
+                .willReturn(views(question.subList(OFFSET, OFFSET + LIMIT)));
 
         mockMvc.perform(get(QUESTION_PATH)
                         .accept(APPLICATION_JSON)
@@ -224,8 +339,8 @@ public class QuestionControllerTest {
         }
 
         Question firstOffsetValue = question.get(DEFAULT_OFFSET);
-        given(questionService.findAll(DEFAULT_OFFSET, DEFAULT_LIMIT))
-                .willReturn(question.subList(DEFAULT_OFFSET, DEFAULT_LIMIT));
+        given(questionService.findAll(DEFAULT_OFFSET, DEFAULT_LIMIT, QuestionField.ALL))
+                .willReturn(views(question.subList(DEFAULT_OFFSET, DEFAULT_LIMIT)));
 
         mockMvc.perform(get(QUESTION_PATH)
                         .accept(APPLICATION_JSON)
@@ -246,6 +361,264 @@ public class QuestionControllerTest {
 
     }
 
+    @Test
+    @DisplayName("Quando GET /question com cursor 'after' deve retornar a página seguinte e o cursor da próxima no header Link")
+    public void whenGETQuestionWithCursorShouldReturn200OKWithNextLink() throws Exception {
+        final int LIMIT = 10;
+        final UUID after = UUID.randomUUID();
+
+        List<Question> question = new ArrayList<>();
+        for (int i = 0; i < LIMIT; i++) {
+            question.add(questionForStatement("Question[%d]".formatted(i)));
+        }
+        UUID lastId = question.get(LIMIT - 1).getId();
+
+        given(questionService.findAllAfter(eq(after), eq(LIMIT), eq(QuestionField.ALL))).willReturn(views(question));
+
+        mockMvc.perform(get(QUESTION_PATH)
+                        .accept(APPLICATION_JSON)
+                        .param("after", PageCursor.encode(after))
+                        .param("limit", String.valueOf(LIMIT)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(LIMIT)))
+                .andExpect(jsonPath("$[0].id", equalTo(question.get(0).getId().toString())))
+                .andExpect(header().string("Link", containsString("after=" + PageCursor.encode(lastId))));
+    }
+
+    @Test
+    @DisplayName("Quando GET /question/{id} com 'fields' deve retornar apenas os campos pedidos e o id")
+    public void whenGETQuestionByIdWithFieldsShouldReturnOnlyRequestedFields() throws Exception {
+        Set<QuestionField> fields = EnumSet.of(QuestionField.ID, QuestionField.STATEMENT, QuestionField.ALTERNATIVES);
+        QUESTION.setVersion(3L);
+        given(questionService.findById(eq(QUESTION_ID), eq(fields)))
+                .willReturn(Optional.of(QuestionView.of(QUESTION).select(fields)));
+
+        mockMvc.perform(get(QUESTION_ID_PATH.build(QUESTION_ID))
+                        .accept(APPLICATION_JSON)
+                        .param("fields", "statement,alternatives"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3;id,statement,alternatives\""))
+                .andExpect(jsonPath("$.id", equalTo(QUESTION_ID.toString())))
+                .andExpect(jsonPath("$.statement", equalTo(QUESTION_STATEMENT)))
+                .andExpect(jsonPath("$.alternatives", equalTo(QUESTION_ALTERNATIVES)))
+                .andExpect(jsonPath("$.category").doesNotExist())
+                .andExpect(jsonPath("$.difficulty").doesNotExist())
+                .andExpect(jsonPath("$.correctIndex").doesNotExist());
+        assertThat(questionJsonCache.getIfPresent(QUESTION_ID)).isNull();
+    }
+
+    @Test
+    @DisplayName("Quando GET /question com 'fields' deve retornar apenas os campos pedidos e manter 'fields' no header Link")
+    public void whenGETQuestionWithFieldsShouldReturnOnlyRequestedFieldsAndKeepThemInNextLink() throws Exception {
+        final int LIMIT = 1;
+        Set<QuestionField> fields = EnumSet.of(QuestionField.ID, QuestionField.CATEGORY);
+        QuestionView question = QuestionView.of(questionForStatement("Question[0]")).select(fields);
+        given(questionService.findAll(eq(0), eq(LIMIT), eq(fields))).willReturn(List.of(question));
+
+        mockMvc.perform(get(QUESTION_PATH)
+                        .accept(APPLICATION_JSON)
+                        .param("fields", "category")
+                        .param("limit", String.valueOf(LIMIT)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(LIMIT)))
+                .andExpect(jsonPath("$[0].id", equalTo(question.id().toString())))
+                .andExpect(jsonPath("$[0].category[0].name", equalTo(QUESTION_CATEGORY.getName())))
+                .andExpect(jsonPath("$[0].statement").doesNotExist())
+                .andExpect(jsonPath("$[0].alternatives").doesNotExist())
+                .andExpect(header().string("Link", containsString("fields=id,category")));
+    }
+
+    @Test
+    @DisplayName("Quando GET /question com campo desconhecido em 'fields' deve retornar 400 BAD_REQUEST")
+    public void whenGETQuestionWithUnknownFieldShouldReturn400BAD_REQUEST() throws Exception {
+        mockMvc.perform(get(QUESTION_PATH)
+                        .accept(APPLICATION_JSON)
+                        .param("fields", "statement,statementHash"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail", equalTo(message("error.parameter.invalid.message", "fields"))));
+    }
+
+    @Test
+    @DisplayName("Quando GET /question com cursor 'after' inválido deve retornar 400 BAD_REQUEST")
+    public void whenGETQuestionWithInvalidCursorShouldReturn400BAD_REQUEST() throws Exception {
+        String expectedDetail = message("error.parameter.invalid.message", "after");
+
+        mockMvc.perform(get(QUESTION_PATH)
+                        .accept(APPLICATION_JSON)
+                        .param("after", PageCursor.encode("not-an-uuid")))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.title", equalTo(message("error.parameter.invalid.title"))))
+                .andExpect(jsonPath("$.detail", equalTo(expectedDetail)))
+                .andExpect(jsonPath("$.status", equalTo(HttpStatus.BAD_REQUEST.value())));
+    }
+
+    @Test
+    @DisplayName("Quando GET /question com filtros deve retornar as questões filtradas, o total e os filtros no header Link")
+    public void whenGETQuestionWithFiltersShouldReturn200OKWithCountAndNextLink() throws Exception {
+        final int LIMIT = 2;
+        QuestionFilter filter = new QuestionFilter(Set.of(QUESTION_CATEGORY.getId()), Set.of(Difficulty.HARD), null);
+        List<Question> question = List.of(questionForStatement("Question[0]"), questionForStatement("Question[1]"));
+
+        given(questionService.filterOf(eq(List.of(QUESTION_CATEGORY.getName())), eq(List.of(Difficulty.HARD)), any()))
+                .willReturn(Optional.of(filter));
+        final UUID after = UUID.randomUUID();
+        final UUID lastId = question.get(LIMIT - 1).getId();
+        given(questionService.findAllFiltered(eq(filter), eq(0), eq(after), eq(LIMIT), eq(QuestionField.ALL)))
+                .willReturn(views(question));
+        given(questionService.count(eq(filter))).willReturn(5);
+
+        mockMvc.perform(get(QUESTION_PATH)
+                        .accept(APPLICATION_JSON)
+                        .param("category", QUESTION_CATEGORY.getName())
+                        .param("difficulty", Difficulty.HARD.name())
+                        .param("after", PageCursor.encode(after))
+                        .param("limit", String.valueOf(LIMIT)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(LIMIT)))
+                .andExpect(header().string(QuestionController.TOTAL_COUNT_HEADER, "5"))
+                .andExpect(header().string("Link", containsString("after=" + PageCursor.encode(lastId))))
+                .andExpect(header().string("Link", containsString("category=" + QUESTION_CATEGORY.getName())))
+                .andExpect(header().string("Link", containsString("difficulty=HARD")));
+    }
+
+    @Test
+    @DisplayName("Quando GET /question com filtros e cursor que não é um id deve retornar 400 BAD_REQUEST")
+    public void whenGETQuestionWithFiltersAndPositionCursorShouldReturn400BAD_REQUEST() throws Exception {
+        String expectedDetail = message("error.parameter.invalid.message", "after");
+
+        mockMvc.perform(get(QUESTION_PATH)
+                        .accept(APPLICATION_JSON)
+                        .param("difficulty", Difficulty.HARD.name())
+                        .param("after", PageCursor.encode(Long.MAX_VALUE)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.title", equalTo(message("error.parameter.invalid.title"))))
+                .andExpect(jsonPath("$.detail", equalTo(expectedDetail)));
+        verify(questionService, never()).findAllFiltered(any(), anyInt(), any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("Quando GET /question/count com categoria que não existe deve retornar 0")
+    public void whenGETQuestionCountWithUnknownCategoryShouldReturnZero() throws Exception {
+        given(questionService.filterOf(any(), any(), any())).willReturn(Optional.empty());
+
+        mockMvc.perform(get(QuestionController.COUNT_QUESTION_PATH)
+                        .accept(APPLICATION_JSON)
+                        .param("category", "Unknown"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("0"));
+    }
+
+    // ***************
+    // GET /question/random
+    // ***************
+
+    @Test
+    @DisplayName("Quando GET /question/random com filtros deve retornar as questões sorteadas 200 OK")
+    public void whenGETRandomQuestionWithFiltersShouldReturn200OK() throws Exception {
+        final int COUNT = 5;
+
+        List<Question> question = new ArrayList<>();
+        for (int i = 0; i < COUNT; i++) {
+            question.add(questionForStatement("Question[%d]".formatted(i)));
+        }
+
+        given(questionService.findRandom(eq(COUNT), eq(QUESTION_CATEGORY.getName()), eq(QUESTION_DIFFICULTY), eq(null)))
+                .willReturn(views(question));
+
+        mockMvc.perform(get(QuestionController.RANDOM_QUESTION_PATH)
+                        .accept(APPLICATION_JSON)
+                        .param("count", String.valueOf(COUNT))
+                        .param("category", QUESTION_CATEGORY.getName())
+                        .param("difficulty", QUESTION_DIFFICULTY.name()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(COUNT)))
+                .andExpect(jsonPath("$[0].id", equalTo(question.get(0).getId().toString())))
+                .andExpect(jsonPath("$[0].difficulty", equalTo(QUESTION_DIFFICULTY.name())));
+    }
+
+    @Test
+    @DisplayName("Quando GET /question/random com count acima do máximo deve sortear MAX_LIMIT questões")
+    public void whenGETRandomQuestionWithCountAboveMaxShouldDrawMaxLimit() throws Exception {
+        given(questionService.findRandom(eq(QuestionController.MAX_LIMIT), any(), any(), any()))
+                .willReturn(List.of(QuestionView.of(QUESTION)));
+
+        mockMvc.perform(get(QuestionController.RANDOM_QUESTION_PATH)
+                        .accept(APPLICATION_JSON)
+                        .param("count", String.valueOf(QuestionController.MAX_LIMIT + 1)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    // ***************
+    // GET /question/similar
+    // ***************
+
+    @Test
+    @DisplayName("Quando GET /question/similar deve retornar as questões parecidas com a similaridade 200 OK")
+    public void whenGETSimilarQuestionShouldReturnCandidates200OK() throws Exception {
+        UUID similarId = UUID.randomUUID();
+        given(questionService.findSimilar(eq("Some statement"), eq(0.7), eq(5)))
+                .willReturn(List.of(new SimilarQuestion(similarId, 0.75)));
+
+        mockMvc.perform(get(QuestionController.SIMILAR_QUESTION_PATH)
+                        .param("statement", "Some statement")
+                        .param("threshold", "0.7")
+                        .param("limit", "5")
+                        .accept(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", equalTo(similarId.toString())))
+                .andExpect(jsonPath("$[0].similarity", equalTo(0.75)))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("Quando GET /question/similar com limiar fora de (0, 1] deve retornar 400 BAD_REQUEST")
+    public void whenGETSimilarQuestionWithInvalidThresholdShouldReturn400BAD_REQUEST() throws Exception {
+        mockMvc.perform(get(QuestionController.SIMILAR_QUESTION_PATH)
+                        .param("statement", "Some statement")
+                        .param("threshold", "1.5")
+                        .accept(APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail", equalTo(message("error.parameter.invalid.message", "threshold"))))
+                .andDo(print());
+    }
+
+    // ***************
+    // GET /question/export
+    // ***************
+
+    @Test
+    @DisplayName("Quando GET /question/export deve retornar as questões em NDJSON, uma por linha 200 OK")
+    public void whenGETQuestionExportShouldStreamNDJSON() throws Exception {
+        QuestionView first = QuestionView.of(questionForStatement("First statement"));
+        QuestionView second = QuestionView.of(questionForStatement("Second statement"));
+        willAnswer(invocation -> {
+            Consumer<List<QuestionView>> consumer = invocation.getArgument(2);
+            consumer.accept(List.of(first));
+            consumer.accept(List.of(second));
+            return null;
+        }).given(questionService).export(eq(QUESTION_CATEGORY.getName()), eq(QUESTION_DIFFICULTY), any());
+
+        MvcResult result = mockMvc.perform(get(QuestionController.EXPORT_QUESTION_PATH)
+                        .accept(APPLICATION_NDJSON)
+                        .param("category", QUESTION_CATEGORY.getName())
+                        .param("difficulty", QUESTION_DIFFICULTY.name()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertThat(result.getRequest().getAsyncContext().getTimeout())
+                .isEqualTo(QuestionController.EXPORT_TIMEOUT.toMillis());
+
+        String[] lines = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString().split("\n");
+
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("id").asText()).isEqualTo(first.id().toString());
+        assertThat(objectMapper.readTree(lines[1]).get("statement").asText()).isEqualTo(second.statement());
+    }
+
     // ***************
     // POST /question
     // ***************
@@ -302,6 +675,28 @@ public class QuestionControllerTest {
                 .andDo(print());
     }
 
+    @Test
+    @DisplayName("Quando POST /question com rejectNearDuplicates e enunciado parecido com outro deve 409 CONFLICT")
+    public void whenPOSTNearDuplicateQuestionWithRejectShouldReturn409CONFLICT() throws Exception {
+        QuestionDTO newQuestion = questionDTOForStatement("Statement");
+        UUID similarId = UUID.randomUUID();
+        String expectedDetail = message("error.resource.similar.message", "statement");
+
+        given(questionService.existsByStatement(any())).willReturn(false);
+        given(questionService.findSimilar(eq(newQuestion.getStatement()), eq(QuestionController.DEFAULT_SIMILARITY_THRESHOLD), any(Integer.class)))
+                .willReturn(List.of(new SimilarQuestion(similarId, 0.8)));
+
+        mockMvc.perform(post(QUESTION_PATH)
+                        .param("rejectNearDuplicates", "true")
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(newQuestion)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.title", equalTo(message("error.resource.similar.title"))))
+                .andExpect(jsonPath("$.detail", equalTo(expectedDetail)))
+                .andExpect(jsonPath("$.errors[0].reason", equalTo(similarId.toString())))
+                .andDo(print());
+    }
+
     @Test
     @DisplayName("Quando POST /question com o enunciado de uma questão vazia 400 BAD_REQUEST")
     public void whenPOSTEmptyQuestionShouldReturn400BAD_REQUEST() throws Exception {
@@ -337,6 +732,55 @@ public class QuestionControllerTest {
                 .andDo(print());
     }
 
+    // ***************
+    // POST /question/bulk
+    // ***************
+
+    @Test
+    @DisplayName("Quando POST /question/bulk com NDJSON deve retornar o resultado de cada item 200 OK")
+    public void whenPOSTQuestionBulkWithNDJSONShouldReturn200OKWithItemResults() throws Exception {
+        QuestionDTO first = questionDTOForStatement("First statement");
+        QuestionDTO second = questionDTOForStatement("Second statement");
+        UUID createdId = UUID.randomUUID();
+
+        given(questionService.saveAll(eq(List.of(first, second)), eq(0)))
+                .willReturn(List.of(QuestionImportResult.created(0, createdId), QuestionImportResult.duplicate(1)));
+
+        String body = objectMapper.writeValueAsString(first) + "\n" + objectMapper.writeValueAsString(second) + "\n";
+        mockMvc.perform(post(QuestionController.BULK_QUESTION_PATH)
+                        .contentType(APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created", equalTo(1)))
+                .andExpect(jsonPath("$.duplicate", equalTo(1)))
+                .andExpect(jsonPath("$.invalid", equalTo(0)))
+                .andExpect(jsonPath("$.items[0].status", equalTo("CREATED")))
+                .andExpect(jsonPath("$.items[0].id", equalTo(createdId.toString())))
+                .andExpect(jsonPath("$.items[1].status", equalTo("DUPLICATE")))
+                .andExpect(jsonPath("$.items[1].errors[0].reason", equalTo(message("error.question.bulk.duplicate.message"))));
+    }
+
+    @Test
+    @DisplayName("Quando POST /question/bulk com array JSON malformado deve processar os itens lidos e reportar o erro")
+    public void whenPOSTQuestionBulkWithMalformedArrayShouldReportMalformedItem() throws Exception {
+        QuestionDTO first = questionDTOForStatement("First statement");
+        UUID createdId = UUID.randomUUID();
+
+        given(questionService.saveAll(eq(List.of(first)), eq(0)))
+                .willReturn(List.of(QuestionImportResult.created(0, createdId)));
+
+        String body = "[" + objectMapper.writeValueAsString(first) + ", {\"statement\": ]";
+        mockMvc.perform(post(QuestionController.BULK_QUESTION_PATH)
+                        .contentType(APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created", equalTo(1)))
+                .andExpect(jsonPath("$.invalid", equalTo(1)))
+                .andExpect(jsonPath("$.items[1].index", equalTo(1)))
+                .andExpect(jsonPath("$.items[1].errors[0].field", equalTo("body")))
+                .andDo(print());
+    }
+
     // ***************
     // PUT /question/{id}
     // ***************
@@ -349,14 +793,15 @@ public class QuestionControllerTest {
         QuestionDTO newQuestion = questionDTOForStatement("Test2");
         System.out.println(QUESTION_DIFFICULTY.name());
 
-        given(questionService.existsById(any())).willReturn(true);
         question.setStatement(newQuestion.getStatement());
-        given(questionService.update(eq(id), eq(newQuestion))).willReturn(question);
+        question.setVersion(4L);
+        given(questionService.update(eq(id), eq(newQuestion), isNull())).willReturn(question);
         String putURI = QUESTION_ID_PATH.build(id).toString();
         mockMvc.perform(put(putURI)
                         .contentType(APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(newQuestion)))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""))
                 .andExpect(jsonPath("$").exists())
                 .andExpect(jsonPath("$.id", equalTo(question.getId().toString())))
                 .andExpect(jsonPath("$.category[0].id", equalTo(QUESTION_CATEGORY.getId().intValue())))
@@ -376,7 +821,8 @@ public class QuestionControllerTest {
         String expectedDetail = message("error.resource.notfound.message", "id");
 
         QuestionDTO newQuestion = questionDTOForStatement("Test");
-        given(questionService.existsById(any())).willReturn(false);
+        given(questionService.update(eq(invalidId), eq(newQuestion), isNull()))
+                .willThrow(new SpecificResourceNotFoundException("id", String.valueOf(invalidId)));
 
         String putURI = QUESTION_ID_PATH.build(invalidId).toString();
         mockMvc.perform(put(putURI)
@@ -417,7 +863,8 @@ public class QuestionControllerTest {
         String expectedDetail = message("error.resource.exists.message", "statement");
 
         QuestionDTO newQuestionAlreadyExists = questionDTOForStatement(questionStatement);
-        given(questionService.existsByStatementAndDifferentId(eq(id), eq(newQuestionAlreadyExists.getStatement()))).willReturn(true);
+        given(questionService.update(eq(id), eq(newQuestionAlreadyExists), isNull()))
+                .willThrow(new ResourceAlreadyExistException("statement", questionStatement));
 
         String putURI = QUESTION_ID_PATH.build(id).toString();
         mockMvc.perform(put(putURI)
@@ -431,6 +878,72 @@ public class QuestionControllerTest {
                 .andDo(print());
     }
 
+    @Test
+    @DisplayName("Quando PUT /question/{id} com If-Match da versão atual deve repassar a versão esperada")
+    public void whenPUTQuestionWithIfMatchShouldPassExpectedVersion() throws Exception {
+        final UUID id = UUID.randomUUID();
+        Question question = questionForStatement("Test2");
+        question.setVersion(4L);
+        QuestionDTO newQuestion = questionDTOForStatement("Test2");
+        given(questionService.update(eq(id), eq(newQuestion), eq(3L))).willReturn(question);
+
+        mockMvc.perform(put(QUESTION_ID_PATH.build(id))
+                        .header("If-Match", "\"3\"")
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(newQuestion)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("Quando PUT /question/{id} com If-Match de versão desatualizada deve retornar 409 CONFLICT")
+    public void whenPUTQuestionWithStaleIfMatchShouldReturn409CONFLICT() throws Exception {
+        final UUID id = UUID.randomUUID();
+        QuestionDTO newQuestion = questionDTOForStatement("Test2");
+        given(questionService.update(eq(id), eq(newQuestion), eq(2L)))
+                .willThrow(new ResourceVersionConflictException("id", id.toString()));
+
+        mockMvc.perform(put(QUESTION_ID_PATH.build(id))
+                        .header("If-Match", "\"2\"")
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(newQuestion)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.title", equalTo(message("error.resource.version.title"))))
+                .andExpect(jsonPath("$.detail", equalTo(message("error.resource.version.message", "id"))))
+                .andExpect(jsonPath("$.errors[0].field", equalTo("id")))
+                .andExpect(jsonPath("$.errors[0].reason", equalTo(id.toString())))
+                .andExpect(jsonPath("$.status", equalTo(HttpStatus.CONFLICT.value())))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("Quando PUT /question/{id} com If-Match fraco deve retornar 412 PRECONDITION_FAILED")
+    public void whenPUTQuestionWithWeakIfMatchShouldReturn412PRECONDITION_FAILED() throws Exception {
+        mockMvc.perform(put(QUESTION_ID_PATH.build(UUID.randomUUID()))
+                        .header("If-Match", "W/\"3\"")
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(questionDTOForStatement("Test2"))))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.title", equalTo(message("error.precondition.failed.title"))))
+                .andExpect(jsonPath("$.detail", equalTo(message("error.precondition.failed.message", "If-Match"))))
+                .andExpect(jsonPath("$.status", equalTo(HttpStatus.PRECONDITION_FAILED.value())))
+                .andDo(print());
+        verify(questionService, never()).update(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Quando PUT /question/{id} com If-Match mal formado deve retornar 400 BAD_REQUEST")
+    public void whenPUTQuestionWithMalformedIfMatchShouldReturn400BAD_REQUEST() throws Exception {
+        mockMvc.perform(put(QUESTION_ID_PATH.build(UUID.randomUUID()))
+                        .header("If-Match", "\"abc\"")
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(questionDTOForStatement("Test2"))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail", equalTo(message("error.parameter.invalid.message", "If-Match"))))
+                .andDo(print());
+    }
+
     // ***************
     // DELETE /question/{id}
     // ***************
@@ -466,6 +979,10 @@ public class QuestionControllerTest {
                 .andDo(print());
     }
 
+    private List<QuestionView> views(List<Question> questions) {
+        return questions.stream().map(QuestionView::of).toList();
+    }
+
     private Question questionForStatement(String statement) {
         return Question.builder()
                 .id(UUID.randomUUID())
@@ -0,0 +1,146 @@
+package com.prpa.trivia.unit.resources;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prpa.trivia.model.dto.*;
+import com.prpa.trivia.model.exceptions.QuizSessionFinishedException;
+import com.prpa.trivia.model.exceptions.SpecificResourceNotFoundException;
+import com.prpa.trivia.model.trivia.Difficulty;
+import com.prpa.trivia.model.trivia.Type;
+import com.prpa.trivia.resources.QuizController;
+import com.prpa.trivia.service.QuizService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.MessageSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(QuizController.class)
+public class QuizControllerTest {
+
+    private static final UUID SESSION_ID = UUID.randomUUID();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MessageSource messageSource;
+
+    @MockBean
+    private QuizService quizService;
+
+    @Test
+    @DisplayName("Quando POST /quiz com requisição válida deve criar a sessão 201 CREATED")
+    public void whenPOSTQuizShouldReturn201CREATED() throws Exception {
+        QuizRequestDTO request = QuizRequestDTO.builder().count(5).difficulty(Difficulty.HARD).build();
+        given(quizService.create(any())).willReturn(new QuizSessionDTO(SESSION_ID, 5, 0, 0, false));
+
+        mockMvc.perform(post(QuizController.QUIZ_PATH)
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Location", UriComponentsBuilder.fromPath(QuizController.QUIZ_ID_PATH).build(SESSION_ID).toString()))
+                .andExpect(jsonPath("$.id", equalTo(SESSION_ID.toString())))
+                .andExpect(jsonPath("$.total", equalTo(5)))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("Quando POST /quiz sem questões para os filtros deve retornar 400 BAD_REQUEST com os filtros")
+    public void whenPOSTQuizWithNoMatchingQuestionsShouldReturn400BAD_REQUEST() throws Exception {
+        QuizRequestDTO request = QuizRequestDTO.builder().count(5).category("History").build();
+        given(quizService.create(any())).willThrow(new SpecificResourceNotFoundException(
+                "category", "History", "difficulty", "", "type", ""));
+
+        mockMvc.perform(post(QuizController.QUIZ_PATH)
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.title", equalTo(message("error.resource.notfound.title"))))
+                .andExpect(jsonPath("$.errors", hasSize(3)))
+                .andExpect(jsonPath("$.errors[?(@.field == 'category')].reason", contains("History")))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("Quando POST /quiz com quantidade fora do limite deve retornar 400 BAD_REQUEST")
+    public void whenPOSTQuizWithInvalidCountShouldReturn400BAD_REQUEST() throws Exception {
+        QuizRequestDTO request = QuizRequestDTO.builder().count(QuizRequestDTO.MAX_QUESTIONS + 1).build();
+
+        mockMvc.perform(post(QuizController.QUIZ_PATH)
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0].field", equalTo("count")))
+                .andExpect(jsonPath("$.errors[0].reason", equalTo(message("error.quiz.range.count.message"))))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("Quando GET /quiz/{id}/question deve retornar a questão atual sem o índice correto 200 OK")
+    public void whenGETQuizQuestionShouldNotExposeCorrectIndex() throws Exception {
+        given(quizService.currentQuestion(eq(SESSION_ID))).willReturn(new QuizQuestionDTO(0, 5, UUID.randomUUID(),
+                List.of("Art"), Difficulty.EASY, Type.BOOLEAN, "Statement", List.of("True", "False")));
+
+        mockMvc.perform(get(UriComponentsBuilder.fromPath(QuizController.QUIZ_QUESTION_PATH).build(SESSION_ID))
+                        .accept(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.statement", equalTo("Statement")))
+                .andExpect(jsonPath("$.alternatives", hasSize(2)))
+                .andExpect(jsonPath("$.correctIndex").doesNotExist())
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("Quando POST /quiz/{id}/answer em sessão finalizada deve retornar 409 CONFLICT")
+    public void whenPOSTQuizAnswerOnFinishedSessionShouldReturn409CONFLICT() throws Exception {
+        given(quizService.answer(eq(SESSION_ID), eq(5), eq(1)))
+                .willThrow(new QuizSessionFinishedException("id", SESSION_ID.toString()));
+
+        mockMvc.perform(post(UriComponentsBuilder.fromPath(QuizController.QUIZ_ANSWER_PATH).build(SESSION_ID))
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new QuizAnswerDTO(5, 1))))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.title", equalTo(message("error.quiz.finished.title"))))
+                .andExpect(jsonPath("$.detail", equalTo(message("error.quiz.finished.message", "id"))))
+                .andExpect(jsonPath("$.status", equalTo(HttpStatus.CONFLICT.value())))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("Quando POST /quiz/{id}/answer com resposta válida deve retornar a correção 200 OK")
+    public void whenPOSTQuizAnswerShouldReturn200OK() throws Exception {
+        given(quizService.answer(eq(SESSION_ID), eq(0), eq(1))).willReturn(new QuizAnswerResult(true, 1, 1, false));
+
+        mockMvc.perform(post(UriComponentsBuilder.fromPath(QuizController.QUIZ_ANSWER_PATH).build(SESSION_ID))
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new QuizAnswerDTO(0, 1))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.correct", equalTo(true)))
+                .andExpect(jsonPath("$.score", equalTo(1)))
+                .andDo(print());
+    }
+
+    public String message(String message, Object... objects) {
+        return messageSource.getMessage(message, objects, Locale.getDefault());
+    }
+}
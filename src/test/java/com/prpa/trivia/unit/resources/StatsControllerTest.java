@@ -0,0 +1,84 @@
+package com.prpa.trivia.unit.resources;
+
+import com.prpa.trivia.model.dto.CategoryStatsDTO;
+import com.prpa.trivia.model.dto.QuestionStatsDTO;
+import com.prpa.trivia.resources.StatsController;
+import com.prpa.trivia.service.CategoryService;
+import com.prpa.trivia.service.QuestionService;
+import com.prpa.trivia.service.QuestionStatsService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(StatsController.class)
+public class StatsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private QuestionStatsService questionStatsService;
+
+    @MockBean
+    private QuestionService questionService;
+
+    @MockBean
+    private CategoryService categoryService;
+
+    @Test
+    @DisplayName("Quando GET /question/{id}/stats deve retornar as contagens e a taxa de acerto 200 OK")
+    public void whenGETQuestionStatsShouldReturn200OK() throws Exception {
+        UUID id = UUID.randomUUID();
+        given(questionService.existsById(eq(id))).willReturn(true);
+        given(questionStatsService.findByQuestion(eq(id))).willReturn(QuestionStatsDTO.of(id, 10, 3, 1, Map.of(0, 3L, 1, 1L)));
+
+        mockMvc.perform(get(UriComponentsBuilder.fromPath(StatsController.QUESTION_STATS_PATH).build(id))
+                        .accept(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.served", equalTo(10)))
+                .andExpect(jsonPath("$.accuracy", equalTo(0.75)))
+                .andExpect(jsonPath("$.picks.0", equalTo(3)))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("Quando GET /categories/{id}/stats com id que não existe deve retornar 400 BAD_REQUEST")
+    public void whenGETCategoryStatsWithInvalidIdShouldReturn400BAD_REQUEST() throws Exception {
+        given(categoryService.existsById(eq(42L))).willReturn(false);
+
+        mockMvc.perform(get(UriComponentsBuilder.fromPath(StatsController.CATEGORY_STATS_PATH).build(42L))
+                        .accept(APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("Quando GET /categories/{id}/stats deve retornar a soma das questões da categoria 200 OK")
+    public void whenGETCategoryStatsShouldReturn200OK() throws Exception {
+        given(categoryService.existsById(eq(1L))).willReturn(true);
+        given(questionStatsService.findByCategory(eq(1L))).willReturn(new CategoryStatsDTO(1L, 4, 20, 6, 2));
+
+        mockMvc.perform(get(UriComponentsBuilder.fromPath(StatsController.CATEGORY_STATS_PATH).build(1L))
+                        .accept(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.questions", equalTo(4)))
+                .andExpect(jsonPath("$.accuracy", equalTo(0.75)))
+                .andDo(print());
+    }
+}
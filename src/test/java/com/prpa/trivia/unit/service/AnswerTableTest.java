@@ -0,0 +1,70 @@
+package com.prpa.trivia.unit.service;
+
+import com.prpa.trivia.model.trivia.Question;
+import com.prpa.trivia.repository.QuestionRepository;
+import com.prpa.trivia.service.AnswerTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class AnswerTableTest {
+
+    private AnswerTable answerTable;
+
+    @BeforeEach
+    public void setup() {
+        answerTable = new AnswerTable(mock(QuestionRepository.class));
+    }
+
+    @Test
+    @DisplayName("Quando inserir além da capacidade inicial deve manter todos os índices corretos")
+    public void whenPutBeyondInitialCapacityShouldKeepAllEntries() {
+        List<Question> questions = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            Question question = question(i % 4);
+            questions.add(question);
+            answerTable.put(question);
+        }
+
+        assertThat(answerTable.size()).isEqualTo(5_000);
+        for (Question question : questions) {
+            assertThat(answerTable.correctIndex(question.getId())).isEqualTo(question.getCorrectIndex());
+        }
+        assertThat(answerTable.correctIndex(UUID.randomUUID())).isEqualTo(AnswerTable.ABSENT);
+    }
+
+    @Test
+    @DisplayName("Quando remover ou alterar questões as demais devem continuar encontráveis")
+    public void whenRemoveOrUpdateShouldKeepOtherEntriesReachable() {
+        List<Question> questions = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            Question question = question(1);
+            questions.add(question);
+            answerTable.put(question);
+        }
+
+        for (int i = 0; i < questions.size(); i += 2) answerTable.remove(questions.get(i).getId());
+        questions.get(1).setCorrectIndex(3);
+        answerTable.put(questions.get(1));
+
+        assertThat(answerTable.size()).isEqualTo(1_000);
+        for (int i = 0; i < questions.size(); i++) {
+            int expected = i % 2 == 0 ? AnswerTable.ABSENT : questions.get(i).getCorrectIndex();
+            assertThat(answerTable.correctIndex(questions.get(i).getId())).isEqualTo(expected);
+        }
+    }
+
+    private Question question(int correctIndex) {
+        return Question.builder()
+                .id(UUID.randomUUID())
+                .correctIndex(correctIndex)
+                .build();
+    }
+}
@@ -0,0 +1,113 @@
+package com.prpa.trivia.unit.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.prpa.trivia.model.dto.CategoryDTO;
+import com.prpa.trivia.model.trivia.Category;
+import com.prpa.trivia.repository.CategoryRepository;
+import com.prpa.trivia.service.CategoryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+public class CategoryServiceTest {
+
+    private static final Category ART = new Category(1L, "Art");
+    private static final Category HISTORY = new Category(2L, "History");
+
+    private CategoryRepository categoryRepository;
+    private Cache<String, Category> categoryNameCache;
+    private CategoryService categoryService;
+
+    @BeforeEach
+    public void setup() {
+        categoryRepository = mock(CategoryRepository.class);
+        categoryNameCache = Caffeine.newBuilder().maximumSize(100).build();
+        categoryService = new CategoryService(categoryRepository, categoryNameCache,
+                Caffeine.newBuilder().build(), Caffeine.newBuilder().build(), Caffeine.newBuilder().build(),
+                mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    @DisplayName("Quando findOrSaveAll com categorias existentes e novas deve usar uma consulta e um lote de inserção")
+    public void whenFindOrSaveAllWithExistingAndNewShouldQueryOnceAndInsertOnce() {
+        given(categoryRepository.findAllByNameIn(eq(Set.of("Art", "History")))).willReturn(List.of(ART));
+        given(categoryRepository.saveAll(any())).willReturn(List.of(HISTORY));
+
+        List<Category> found = categoryService.findOrSaveAll(List.of(
+                new CategoryDTO(" Art "), new CategoryDTO("History"), new CategoryDTO("Art")));
+
+        assertThat(found).containsExactly(ART, HISTORY);
+        verify(categoryRepository, times(1)).findAllByNameIn(anyCollection());
+        verify(categoryRepository, times(1)).saveAll(any());
+        verify(categoryRepository, never()).findByName(any());
+    }
+
+    @Test
+    @DisplayName("Quando findOrSaveAll com categorias em cache não deve consultar o banco de dados")
+    public void whenFindOrSaveAllWithCachedNamesShouldNotQuery() {
+        categoryNameCache.put(ART.getName(), ART);
+
+        assertThat(categoryService.findOrSaveAll(List.of(new CategoryDTO("Art")))).containsExactly(ART);
+        verifyNoInteractions(categoryRepository);
+    }
+
+    @Test
+    @DisplayName("Quando outra inserção concorrente cria a mesma categoria deve retornar a categoria existente")
+    public void whenConcurrentInsertViolatesUniqueNameShouldReadExisting() {
+        given(categoryRepository.findAllByNameIn(anyCollection())).willReturn(List.of());
+        given(categoryRepository.saveAll(any())).willThrow(new DataIntegrityViolationException("unique"));
+        given(categoryRepository.save(any())).willThrow(new DataIntegrityViolationException("unique"));
+        given(categoryRepository.findByName(eq("Art"))).willReturn(Optional.of(ART));
+
+        assertThat(categoryService.findOrSaveAll(List.of(new CategoryDTO("Art")))).containsExactly(ART);
+        assertThat(categoryNameCache.getIfPresent("Art")).isEqualTo(ART);
+    }
+
+    @Test
+    @DisplayName("Quando inserir categorias novas dentro de uma transação deve inserir em uma transação nova")
+    public void whenInsertingInsideTransactionShouldInsertInNewTransaction() {
+        given(categoryRepository.findAllByNameIn(anyCollection())).willReturn(List.of());
+        given(categoryRepository.saveAll(any())).willReturn(List.of(ART));
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertThat(categoryService.findOrSaveAll(List.of(new CategoryDTO("Art")))).containsExactly(ART);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+        verify(categoryRepository, times(1)).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Quando uma categoria é alterada ou removida deve ser retirada do cache")
+    public void whenCategoryIsUpdatedOrDeletedShouldInvalidateCache() {
+        Category art = new Category(ART.getId(), ART.getName());
+        categoryNameCache.put(art.getName(), art);
+        categoryNameCache.put(HISTORY.getName(), HISTORY);
+        given(categoryRepository.findById(eq(art.getId()))).willReturn(Optional.of(art));
+        given(categoryRepository.save(any())).willAnswer(invocation -> invocation.getArgument(0));
+
+        long generation = categoryService.generation();
+        categoryService.update(art.getId(), new CategoryDTO("Arts"));
+        assertThat(categoryNameCache.getIfPresent("Art")).isNull();
+        assertThat(categoryService.generation()).isEqualTo(generation + 1);
+
+        categoryService.delete(HISTORY.getId());
+        assertThat(categoryNameCache.getIfPresent(HISTORY.getName())).isNull();
+        assertThat(categoryService.generation()).isEqualTo(generation + 2);
+    }
+}
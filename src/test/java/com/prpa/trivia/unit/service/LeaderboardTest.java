@@ -0,0 +1,110 @@
+package com.prpa.trivia.unit.service;
+
+import com.prpa.trivia.model.dto.LeaderboardEntryDTO;
+import com.prpa.trivia.service.Leaderboard;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LeaderboardTest {
+
+    private Leaderboard leaderboard;
+
+    @BeforeEach
+    public void setup() {
+        leaderboard = new Leaderboard();
+    }
+
+    @Test
+    @DisplayName("Quando jogadores empatam devem dividir a mesma posição e o próximo deve pular as posições")
+    public void whenPlayersTieShouldShareRankAndSkipNext() {
+        leaderboard.add("alice", 5);
+        leaderboard.add("bob", 3);
+        leaderboard.add("carol", 5);
+        leaderboard.add("dave", 1);
+        leaderboard.add("bob", 2);
+
+        assertThat(leaderboard.top(0, 10)).containsExactly(
+                new LeaderboardEntryDTO(1, "alice", 5),
+                new LeaderboardEntryDTO(1, "bob", 5),
+                new LeaderboardEntryDTO(1, "carol", 5),
+                new LeaderboardEntryDTO(4, "dave", 1));
+        assertThat(leaderboard.find("dave")).contains(new LeaderboardEntryDTO(4, "dave", 1));
+        assertThat(leaderboard.find("nobody")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Quando buscar uma página do placar deve pular o offset e respeitar o limite")
+    public void whenTopWithOffsetShouldReturnPage() {
+        for (int i = 0; i < 20; i++) leaderboard.add("player" + i, i);
+
+        List<LeaderboardEntryDTO> page = leaderboard.top(5, 3);
+
+        assertThat(page).extracting(LeaderboardEntryDTO::player).containsExactly("player14", "player13", "player12");
+        assertThat(page).extracting(LeaderboardEntryDTO::rank).containsExactly(6L, 7L, 8L);
+    }
+
+    @Test
+    @DisplayName("Quando as pontuações caem em faixas diferentes as posições devem continuar corretas")
+    public void whenScoresFallInDifferentBucketsShouldKeepRanks() {
+        leaderboard.add("alice", 10);
+        leaderboard.add("bob", 700);
+        leaderboard.add("bob", 5_000);
+        leaderboard.add("carol", 1_500);
+
+        assertThat(leaderboard.find("bob")).contains(new LeaderboardEntryDTO(1, "bob", 5_700));
+        assertThat(leaderboard.find("carol")).contains(new LeaderboardEntryDTO(2, "carol", 1_500));
+        assertThat(leaderboard.find("alice")).contains(new LeaderboardEntryDTO(3, "alice", 10));
+    }
+
+    @Test
+    @DisplayName("Quando pontuações altas dividem a mesma faixa as posições devem ser exatas")
+    public void whenHighScoresShareBucketShouldRankExactly() {
+        SplittableRandom random = new SplittableRandom(7);
+        Map<String, Long> expected = new HashMap<>();
+        for (int i = 0; i < 500; i++) {
+            long score = i % 2 == 0 ? 1_000_000_000L + random.nextInt(2_000) : random.nextLong(Long.MAX_VALUE / 2);
+            leaderboard.restore("player" + i, score);
+            expected.put("player" + i, score);
+        }
+        leaderboard.add("player0", 1);
+        expected.merge("player0", 1L, Long::sum);
+
+        expected.forEach((player, score) -> {
+            long above = expected.values().stream().filter(other -> other > score).count();
+            assertThat(leaderboard.find(player)).contains(new LeaderboardEntryDTO(above + 1, player, score));
+        });
+    }
+
+    @Test
+    @DisplayName("Quando pontos são somados concorrentemente nenhum deve ser perdido")
+    public void whenPointsAreAddedConcurrentlyShouldNotLoseAny() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                tasks.add(executor.submit(() -> {
+                    for (int i = 0; i < 1_000; i++) leaderboard.add("player" + (i % 10), 1);
+                }));
+            }
+            for (Future<?> task : tasks) task.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(leaderboard.size()).isEqualTo(10);
+        assertThat(leaderboard.top(0, 100)).hasSize(10)
+                .allMatch(entry -> entry.score() == 800 && entry.rank() == 1);
+        assertThat(leaderboard.drainChanged()).hasSize(10);
+        assertThat(leaderboard.hasChanges()).isFalse();
+    }
+}
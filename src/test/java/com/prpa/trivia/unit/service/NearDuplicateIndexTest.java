@@ -0,0 +1,96 @@
+package com.prpa.trivia.unit.service;
+
+import com.prpa.trivia.model.dto.SimilarQuestion;
+import com.prpa.trivia.model.trivia.Question;
+import com.prpa.trivia.repository.QuestionRepository;
+import com.prpa.trivia.service.NearDuplicateIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class NearDuplicateIndexTest {
+
+    private NearDuplicateIndex nearDuplicateIndex;
+
+    @BeforeEach
+    public void setup() {
+        nearDuplicateIndex = new NearDuplicateIndex(mock(QuestionRepository.class));
+    }
+
+    @Test
+    @DisplayName("Quando buscar um enunciado parafraseado deve encontrar a questão original e não as diferentes")
+    public void whenFindSimilarWithParaphraseShouldReturnOriginalOnly() {
+        Question original = question("Which planet of the solar system is known as the red planet?");
+        nearDuplicateIndex.put(original);
+        nearDuplicateIndex.put(question("Who painted the ceiling of the Sistine Chapel?"));
+        nearDuplicateIndex.put(question("What is the chemical symbol for gold?"));
+
+        assertThat(nearDuplicateIndex.findSimilar("Which planet in the solar system is known as the Red Planet", 0.5, 10))
+                .extracting(SimilarQuestion::id)
+                .containsExactly(original.getId());
+        assertThat(nearDuplicateIndex.findSimilar("How many strings does a standard violin have?", 0.5, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Quando o enunciado é idêntico a similaridade deve ser 1")
+    public void whenStatementIsIdenticalShouldHaveFullSimilarity() {
+        Question original = question("What is the capital city of Australia?");
+        nearDuplicateIndex.put(original);
+
+        assertThat(nearDuplicateIndex.findSimilar("  what is the capital city of AUSTRALIA? ", 0.9, 10))
+                .containsExactly(new SimilarQuestion(original.getId(), 1.0));
+    }
+
+    @Test
+    @DisplayName("Quando uma questão é alterada ou removida o índice deve refletir a alteração")
+    public void whenQuestionIsUpdatedOrRemovedShouldReflectOnFind() {
+        Question question = question("What is the capital city of Australia?");
+        nearDuplicateIndex.put(question);
+
+        question.setStatement("What is the largest ocean on Earth?");
+        nearDuplicateIndex.put(question);
+        assertThat(nearDuplicateIndex.findSimilar("What is the capital city of Australia?", 0.5, 10)).isEmpty();
+        assertThat(nearDuplicateIndex.findSimilar("What is the largest ocean on Earth?", 0.5, 10)).hasSize(1);
+
+        nearDuplicateIndex.remove(question.getId());
+        assertThat(nearDuplicateIndex.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Quando várias questões dividem o mesmo bucket a remoção deve manter as demais e reaproveitar o espaço")
+    public void whenRemovingFromSharedBucketShouldKeepOthersAndReuseSlots() {
+        List<Question> questions = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            Question question = question("What is the capital city of Australia?");
+            questions.add(question);
+            nearDuplicateIndex.put(question);
+        }
+        for (int i = 0; i < 40; i += 3) nearDuplicateIndex.remove(questions.get(i).getId());
+        Question replacement = question("What is the capital city of Australia?");
+        nearDuplicateIndex.put(replacement);
+
+        List<UUID> expected = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            if (i % 3 != 0) expected.add(questions.get(i).getId());
+        }
+        expected.add(replacement.getId());
+        assertThat(nearDuplicateIndex.findSimilar("What is the capital city of Australia?", 0.9, 100))
+                .extracting(SimilarQuestion::id)
+                .containsExactlyInAnyOrderElementsOf(expected);
+        assertThat(nearDuplicateIndex.size()).isEqualTo(expected.size());
+    }
+
+    private Question question(String statement) {
+        return Question.builder()
+                .id(UUID.randomUUID())
+                .statement(statement)
+                .build();
+    }
+}
@@ -0,0 +1,137 @@
+package com.prpa.trivia.unit.service;
+
+import com.prpa.trivia.model.dto.QuestionFilter;
+import com.prpa.trivia.model.trivia.Category;
+import com.prpa.trivia.model.trivia.Difficulty;
+import com.prpa.trivia.model.trivia.Question;
+import com.prpa.trivia.model.trivia.Type;
+import com.prpa.trivia.repository.QuestionRepository;
+import com.prpa.trivia.service.QuestionFilterIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class QuestionFilterIndexTest {
+
+    private static final Category ART = new Category(1L, "Art");
+    private static final Category HISTORY = new Category(2L, "History");
+    private static final QuestionFilter NO_FILTER = new QuestionFilter(null, null, null);
+
+    private QuestionFilterIndex questionFilterIndex;
+
+    @BeforeEach
+    public void setup() {
+        questionFilterIndex = new QuestionFilterIndex(mock(QuestionRepository.class));
+    }
+
+    @Test
+    @DisplayName("Quando filtrar deve combinar com OU os valores de um filtro e com E os filtros diferentes")
+    public void whenFilterShouldOrValuesAndAndDimensions() {
+        Question hardArt = question(Difficulty.HARD, Type.MULTIPLE, ART);
+        Question easyHistory = question(Difficulty.EASY, Type.MULTIPLE, HISTORY);
+        Question hardBoth = question(Difficulty.HARD, Type.BOOLEAN, ART, HISTORY);
+        List.of(hardArt, easyHistory, hardBoth).forEach(questionFilterIndex::put);
+
+        QuestionFilter hardInArtOrHistory = new QuestionFilter(Set.of(ART.getId(), HISTORY.getId()), Set.of(Difficulty.HARD), null);
+        assertThat(questionFilterIndex.count(hardInArtOrHistory)).isEqualTo(2);
+        assertThat(questionFilterIndex.find(hardInArtOrHistory, 0, null, 10).orElseThrow())
+                .containsExactly(hardArt.getId(), hardBoth.getId());
+
+        QuestionFilter multipleHistory = new QuestionFilter(Set.of(HISTORY.getId()), null, Set.of(Type.MULTIPLE));
+        assertThat(questionFilterIndex.find(multipleHistory, 0, null, 10).orElseThrow()).containsExactly(easyHistory.getId());
+        assertThat(questionFilterIndex.count(NO_FILTER)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Quando paginar com offset ou cursor deve percorrer todas as questões sem repetição")
+    public void whenPageByOffsetOrPositionShouldVisitAllOnce() {
+        List<UUID> all = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            Question question = question(Difficulty.MEDIUM, Type.MULTIPLE, ART);
+            questionFilterIndex.put(question);
+            all.add(question.getId());
+        }
+
+        List<UUID> visited = new ArrayList<>();
+        List<UUID> page = questionFilterIndex.find(NO_FILTER, 0, null, 10).orElseThrow();
+        while (!page.isEmpty()) {
+            visited.addAll(page);
+            page = questionFilterIndex.find(NO_FILTER, 0, page.get(page.size() - 1), 10).orElseThrow();
+        }
+
+        assertThat(visited).containsExactlyElementsOf(all);
+        assertThat(questionFilterIndex.find(NO_FILTER, 20, null, 10).orElseThrow()).containsExactlyElementsOf(all.subList(20, 25));
+        assertThat(questionFilterIndex.find(NO_FILTER, 30, null, 10).orElseThrow()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Quando o cursor aponta para uma questão removida deve continuar de onde parou e rejeitar ids desconhecidos")
+    public void whenCursorQuestionIsRemovedShouldResumeAndUnknownShouldBeEmpty() {
+        List<UUID> all = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Question question = question(Difficulty.MEDIUM, Type.MULTIPLE, ART);
+            questionFilterIndex.put(question);
+            all.add(question.getId());
+        }
+
+        questionFilterIndex.remove(all.get(1));
+
+        assertThat(questionFilterIndex.find(NO_FILTER, 0, all.get(1), 10).orElseThrow())
+                .containsExactlyElementsOf(all.subList(2, 5));
+        assertThat(questionFilterIndex.find(NO_FILTER, 0, UUID.randomUUID(), 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Quando a maioria das questões é removida deve compactar mantendo a ordem e os filtros das restantes")
+    public void whenMostQuestionsAreRemovedShouldCompactKeepingOrderAndFilters() {
+        List<UUID> kept = new ArrayList<>();
+        List<UUID> removed = new ArrayList<>();
+        for (int i = 0; i < 3_000; i++) {
+            Question question = i % 3 == 0 ?
+                    question(Difficulty.HARD, Type.MULTIPLE, HISTORY) :
+                    question(Difficulty.EASY, Type.MULTIPLE, ART);
+            questionFilterIndex.put(question);
+            (i % 3 == 0 ? kept : removed).add(question.getId());
+        }
+
+        removed.forEach(questionFilterIndex::remove);
+
+        QuestionFilter hardHistory = new QuestionFilter(Set.of(HISTORY.getId()), Set.of(Difficulty.HARD), null);
+        assertThat(questionFilterIndex.count(NO_FILTER)).isEqualTo(kept.size());
+        assertThat(questionFilterIndex.find(hardHistory, 0, null, kept.size()).orElseThrow()).containsExactlyElementsOf(kept);
+        assertThat(questionFilterIndex.find(hardHistory, 0, kept.get(9), 5).orElseThrow()).containsExactlyElementsOf(kept.subList(10, 15));
+        assertThat(questionFilterIndex.find(NO_FILTER, 0, removed.get(0), 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Quando uma questão é alterada ou removida o índice deve refletir a alteração")
+    public void whenQuestionIsUpdatedOrRemovedShouldReflectOnCount() {
+        Question question = question(Difficulty.EASY, Type.MULTIPLE, ART);
+        questionFilterIndex.put(question);
+
+        question.setCategory(List.of(HISTORY));
+        questionFilterIndex.put(question);
+        assertThat(questionFilterIndex.count(new QuestionFilter(Set.of(ART.getId()), null, null))).isZero();
+        assertThat(questionFilterIndex.count(new QuestionFilter(Set.of(HISTORY.getId()), null, null))).isEqualTo(1);
+
+        questionFilterIndex.remove(question.getId());
+        assertThat(questionFilterIndex.count(NO_FILTER)).isZero();
+    }
+
+    private Question question(Difficulty difficulty, Type type, Category... categories) {
+        return Question.builder()
+                .id(UUID.randomUUID())
+                .difficulty(difficulty)
+                .type(type)
+                .category(List.of(categories))
+                .build();
+    }
+}
@@ -0,0 +1,118 @@
+package com.prpa.trivia.unit.service;
+
+import com.prpa.trivia.model.trivia.Category;
+import com.prpa.trivia.model.trivia.Difficulty;
+import com.prpa.trivia.model.trivia.Question;
+import com.prpa.trivia.model.trivia.Type;
+import com.prpa.trivia.repository.QuestionRepository;
+import com.prpa.trivia.service.QuestionSampler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class QuestionSamplerTest {
+
+    private static final Category ART = new Category(1L, "Art");
+    private static final Category HISTORY = new Category(2L, "History");
+
+    private QuestionSampler questionSampler;
+
+    @BeforeEach
+    public void setup() {
+        questionSampler = new QuestionSampler(mock(QuestionRepository.class));
+    }
+
+    @Test
+    @DisplayName("Quando sortear mais questões do que existem deve retornar todas sem repetição")
+    public void whenDrawMoreThanAvailableShouldReturnAllWithoutRepeats() {
+        for (int i = 0; i < 20; i++) {
+            questionSampler.put(question(Difficulty.EASY, ART, HISTORY));
+        }
+
+        List<UUID> drawn = questionSampler.draw(50, null, null, null);
+
+        assertThat(drawn).hasSize(20);
+        assertThat(new HashSet<>(drawn)).hasSize(20);
+    }
+
+    @Test
+    @DisplayName("Quando sortear com filtros deve retornar apenas questões que correspondem aos filtros")
+    public void whenDrawWithFiltersShouldReturnOnlyMatching() {
+        Question matching = question(Difficulty.HARD, HISTORY);
+        questionSampler.put(matching);
+        questionSampler.put(question(Difficulty.EASY, HISTORY));
+        questionSampler.put(question(Difficulty.HARD, ART));
+
+        assertThat(questionSampler.draw(10, HISTORY.getId(), Difficulty.HARD, null))
+                .containsExactly(matching.getId());
+        assertThat(questionSampler.draw(10, null, Difficulty.HARD, Type.BOOLEAN)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Quando uma questão é removida ou alterada o índice deve refletir a alteração")
+    public void whenQuestionIsRemovedOrUpdatedShouldReflectOnDraw() {
+        Question question = question(Difficulty.EASY, ART);
+        questionSampler.put(question);
+
+        question.setDifficulty(Difficulty.MEDIUM);
+        questionSampler.put(question);
+        assertThat(questionSampler.draw(10, null, Difficulty.EASY, null)).isEmpty();
+        assertThat(questionSampler.draw(10, null, Difficulty.MEDIUM, null)).containsExactly(question.getId());
+
+        questionSampler.remove(question.getId());
+        assertThat(questionSampler.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Quando sortear sem categoria uma questão em várias categorias não deve ter mais chance que as outras")
+    public void whenDrawWithoutCategoryShouldNotFavorMultiCategoryQuestions() {
+        Category[] many = new Category[10];
+        for (int i = 0; i < many.length; i++) many[i] = new Category(100L + i, "Category " + i);
+        Question inMany = question(Difficulty.EASY, many);
+        questionSampler.put(inMany);
+        questionSampler.put(question(Difficulty.EASY, ART));
+
+        int drawsOfInMany = 0;
+        for (int i = 0; i < 2_000; i++) {
+            if (questionSampler.draw(1, null, Difficulty.EASY, null).contains(inMany.getId())) drawsOfInMany++;
+        }
+
+        assertThat(drawsOfInMany).isBetween(800, 1_200);
+    }
+
+    @Test
+    @DisplayName("Quando questões de várias categorias são removidas os sorteios por categoria devem conter apenas as restantes")
+    public void whenMultiCategoryQuestionsAreRemovedShouldDrawOnlyRemaining() {
+        List<UUID> kept = new ArrayList<>();
+        List<UUID> removed = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            Question question = question(Difficulty.EASY, ART, HISTORY);
+            questionSampler.put(question);
+            (i % 3 == 0 ? removed : kept).add(question.getId());
+        }
+
+        removed.forEach(questionSampler::remove);
+
+        assertThat(questionSampler.draw(100, HISTORY.getId(), null, null)).containsExactlyInAnyOrderElementsOf(kept);
+        assertThat(questionSampler.draw(100, ART.getId(), Difficulty.EASY, null)).containsExactlyInAnyOrderElementsOf(kept);
+        assertThat(questionSampler.draw(100, null, null, null)).containsExactlyInAnyOrderElementsOf(kept);
+        assertThat(questionSampler.size()).isEqualTo(kept.size());
+    }
+
+    private Question question(Difficulty difficulty, Category... categories) {
+        return Question.builder()
+                .id(UUID.randomUUID())
+                .difficulty(difficulty)
+                .type(Type.MULTIPLE)
+                .category(List.of(categories))
+                .build();
+    }
+}
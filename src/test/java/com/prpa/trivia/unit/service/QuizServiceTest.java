@@ -0,0 +1,144 @@
+package com.prpa.trivia.unit.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.prpa.trivia.model.dto.CategoryView;
+import com.prpa.trivia.model.dto.QuestionView;
+import com.prpa.trivia.model.dto.QuizAnswerResult;
+import com.prpa.trivia.model.dto.QuizRequestDTO;
+import com.prpa.trivia.model.dto.QuizSessionDTO;
+import com.prpa.trivia.model.exceptions.FieldApiException;
+import com.prpa.trivia.model.exceptions.FieldReason;
+import com.prpa.trivia.model.exceptions.InvalidParameterException;
+import com.prpa.trivia.model.exceptions.QuizSessionFinishedException;
+import com.prpa.trivia.model.exceptions.SpecificResourceNotFoundException;
+import com.prpa.trivia.model.trivia.Difficulty;
+import com.prpa.trivia.model.trivia.Type;
+import com.prpa.trivia.service.LeaderboardService;
+import com.prpa.trivia.service.QuestionService;
+import com.prpa.trivia.service.QuestionStatsService;
+import com.prpa.trivia.service.QuizService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+public class QuizServiceTest {
+
+    private static final CategoryView ART = new CategoryView(1L, "Art");
+
+    private QuestionService questionService;
+    private LeaderboardService leaderboardService;
+    private QuizService quizService;
+
+    @BeforeEach
+    public void setup() {
+        questionService = mock(QuestionService.class);
+        leaderboardService = mock(LeaderboardService.class);
+        quizService = new QuizService(questionService, mock(QuestionStatsService.class), leaderboardService,
+                Caffeine.newBuilder().build());
+        given(questionService.findRandom(eq(2), eq("Art"), eq(Difficulty.EASY), eq(null)))
+                .willReturn(List.of(question(1), question(0)));
+    }
+
+    @Test
+    @DisplayName("Quando responder todas as questões deve pontuar os acertos e finalizar a sessão")
+    public void whenAnswerAllQuestionsShouldScoreAndFinish() {
+        QuizSessionDTO session = quizService.create(request());
+
+        assertThat(quizService.currentQuestion(session.id()).position()).isZero();
+        QuizAnswerResult first = quizService.answer(session.id(), 0, 1);
+        QuizAnswerResult second = quizService.answer(session.id(), 1, 2);
+
+        assertThat(first).isEqualTo(new QuizAnswerResult(true, 1, 1, false));
+        assertThat(second).isEqualTo(new QuizAnswerResult(false, 0, 1, true));
+        assertThat(quizService.find(session.id())).isEqualTo(new QuizSessionDTO(session.id(), 2, 2, 1, true));
+        assertThatThrownBy(() -> quizService.currentQuestion(session.id())).isInstanceOf(QuizSessionFinishedException.class);
+        assertThatThrownBy(() -> quizService.answer(session.id(), 2, 0)).isInstanceOf(QuizSessionFinishedException.class);
+        verify(questionService, times(1)).findRandom(anyInt(), any(), any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("Quando nenhuma questão corresponde aos filtros deve lançar recurso não encontrado com os filtros pedidos")
+    public void whenNoQuestionMatchesShouldThrowNotFoundWithFilters() {
+        QuizRequestDTO request = QuizRequestDTO.builder().count(2).category("History").type(Type.BOOLEAN).build();
+
+        assertThatThrownBy(() -> quizService.create(request))
+                .isInstanceOfSatisfying(SpecificResourceNotFoundException.class, exception ->
+                        assertThat((List<Object>) exception.getBody().getProperties().get(FieldApiException.ERRORS_FIELD_NAME))
+                                .containsExactlyInAnyOrder(new FieldReason("category", "History"),
+                                        new FieldReason("difficulty", ""), new FieldReason("type", "BOOLEAN")));
+    }
+
+    @Test
+    @DisplayName("Quando a sessão tem um jogador apenas os acertos devem pontuar no placar")
+    public void whenSessionHasPlayerShouldRecordOnlyCorrectAnswersOnLeaderboard() {
+        QuizRequestDTO request = request();
+        request.setPlayer(" alice ");
+        QuizSessionDTO session = quizService.create(request);
+
+        quizService.answer(session.id(), 0, 1);
+        quizService.answer(session.id(), 1, 2);
+
+        verify(leaderboardService, times(1)).record(eq("alice"), eq(List.of("Art")), eq(1L));
+        verifyNoMoreInteractions(leaderboardService);
+    }
+
+    @Test
+    @DisplayName("Quando a mesma posição é respondida concorrentemente apenas uma resposta deve ser aceita")
+    public void whenSamePositionIsAnsweredConcurrentlyShouldAcceptOnlyOne() throws Exception {
+        QuizSessionDTO session = quizService.create(request());
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> answers = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                answers.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        quizService.answer(session.id(), 0, 1);
+                        accepted.incrementAndGet();
+                    } catch (InvalidParameterException e) {
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> answer : answers) answer.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(accepted.get()).isEqualTo(1);
+        assertThat(rejected.get()).isEqualTo(7);
+        assertThat(quizService.find(session.id()).score()).isEqualTo(1);
+    }
+
+    private QuizRequestDTO request() {
+        return QuizRequestDTO.builder()
+                .count(2)
+                .category("Art")
+                .difficulty(Difficulty.EASY)
+                .build();
+    }
+
+    private QuestionView question(int correctIndex) {
+        return new QuestionView(UUID.randomUUID(), List.of(ART), Difficulty.EASY, Type.MULTIPLE,
+                "Statement " + correctIndex, List.of("A", "B", "C"), correctIndex, 0L);
+    }
+}